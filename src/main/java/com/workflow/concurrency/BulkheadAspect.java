@@ -0,0 +1,130 @@
+package com.workflow.concurrency;
+
+import com.workflow.exception.WorkloadSaturatedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Implements {@link Bulkhead}: one fair semaphore per {@link Workload}, taken before the transaction starts.
+ * A call that gets no permit within the max wait fails with {@link WorkloadSaturatedException}.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@Slf4j
+public class BulkheadAspect {
+
+    static final String REJECTED_METRIC = "bulkhead.rejected";
+
+    private static final ThreadLocal<Workload> HELD = new ThreadLocal<>();
+
+    private final BulkheadProperties properties;
+    private final Map<Workload, Semaphore> permits = new EnumMap<>(Workload.class);
+    private final Map<Workload, Timer> waits = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejections = new EnumMap<>(Workload.class);
+
+    public BulkheadAspect(BulkheadProperties properties, MeterRegistry meterRegistry,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.properties = properties;
+        for (Workload workload : Workload.values()) {
+            int size = properties.compartment(workload).getPermits();
+            Semaphore semaphore = new Semaphore(size, true);
+            String tag = workload.name().toLowerCase();
+            permits.put(workload, semaphore);
+            Gauge.builder("bulkhead.permits.active", semaphore, s -> size - s.availablePermits())
+                    .tag("workload", tag).register(meterRegistry);
+            Gauge.builder("bulkhead.permits.max", () -> size)
+                    .tag("workload", tag).register(meterRegistry);
+            waits.put(workload, Timer.builder("bulkhead.wait").tag("workload", tag).register(meterRegistry));
+            rejections.put(workload, Counter.builder(REJECTED_METRIC).tag("workload", tag).register(meterRegistry));
+        }
+        int total = Arrays.stream(Workload.values()).mapToInt(w -> properties.compartment(w).getPermits()).sum();
+        if (total > poolSize) {
+            log.warn("Bulkhead permits ({}) exceed the connection pool ({}): workloads can still starve each other",
+                    total, poolSize);
+        }
+    }
+
+    @Around("@annotation(com.workflow.concurrency.Bulkhead) || @within(com.workflow.concurrency.Bulkhead)")
+    public Object isolate(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (HELD.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        Workload workload = workloadOf(joinPoint);
+        acquire(workload, joinPoint.getSignature().toShortString());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            release(workload);
+        }
+    }
+
+    /** Runs {@code work} holding a permit of {@code workload}, as a {@link Bulkhead} method would. */
+    public <T> T call(Workload workload, String caller, Supplier<T> work) {
+        if (HELD.get() != null) {
+            return work.get();
+        }
+
+        acquire(workload, caller);
+        try {
+            return work.get();
+        } finally {
+            release(workload);
+        }
+    }
+
+    private void acquire(Workload workload, String caller) {
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.get(workload).tryAcquire(properties.compartment(workload).getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waits.get(workload).record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejections.get(workload).increment();
+            log.warn("{} bulkhead saturated, rejecting {}", workload, caller);
+            throw new WorkloadSaturatedException("The server is busy. Please retry shortly.");
+        }
+        HELD.set(workload);
+    }
+
+    private void release(Workload workload) {
+        HELD.remove();
+        permits.get(workload).release();
+    }
+
+    private static Workload workloadOf(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+        }
+        return bulkhead.value();
+    }
+}
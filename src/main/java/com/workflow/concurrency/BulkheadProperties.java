@@ -0,0 +1,47 @@
+package com.workflow.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.concurrency.bulkheads")
+@Getter
+@Setter
+public class BulkheadProperties {
+    private Compartment auth = new Compartment(2, Duration.ofSeconds(2));
+    private Compartment write = new Compartment(3, Duration.ofSeconds(2));
+    private Compartment interactiveRead = new Compartment(2, Duration.ofSeconds(1));
+    private Compartment bulkRead = new Compartment(1, Duration.ofSeconds(5));
+    private Compartment background = new Compartment(1, Duration.ofSeconds(10));
+
+    public Compartment compartment(Workload workload) {
+        return switch (workload) {
+            case AUTH -> auth;
+            case WRITE -> write;
+            case INTERACTIVE_READ -> interactiveRead;
+            case BULK_READ -> bulkRead;
+            case BACKGROUND -> background;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Compartment {
+        /** Concurrent calls, hence connections, this workload may hold. */
+        private int permits;
+        /** How long a call waits for a permit before it is turned away with 503. */
+        private Duration maxWait;
+
+        public Compartment() {
+        }
+
+        Compartment(int permits, Duration maxWait) {
+            this.permits = permits;
+            this.maxWait = maxWait;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.workflow.concurrency;
+
+import com.workflow.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implements {@link RetryOnConflict}, each attempt in its own transaction; a conflict is the guarded
+ * transition UPDATE matching no row, raised as an {@link OptimisticLockingFailureException}.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticRetryAspect {
+
+    static final String CONFLICTS_METRIC = "workflow.conflicts";
+
+    private final OptimisticRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        // Joined to a caller's transaction, a retry would reuse the failed persistence context
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String endpoint = retryOnConflict.value();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    meterRegistry.counter(CONFLICTS_METRIC, "endpoint", endpoint, "outcome", "rejected").increment();
+                    log.warn("Giving up on {} after {} conflicting attempts", endpoint, attempt);
+                    throw new ConcurrentUpdateException(
+                            "The workflow was changed by another request at the same time. Reload it and try again.", e);
+                }
+                meterRegistry.counter(CONFLICTS_METRIC, "endpoint", endpoint, "outcome", "retried").increment();
+                log.debug("Optimistic lock conflict on {}, attempt {}: {}", endpoint, attempt, e.getMessage());
+                backOff();
+            }
+        }
+    }
+
+    private void backOff() throws InterruptedException {
+        if (properties.getMaxBackoffMs() > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(properties.getMaxBackoffMs() + 1));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.workflow.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.concurrency.retry")
+@Getter
+@Setter
+public class OptimisticRetryProperties {
+    /** Total attempts, including the first, before the conflict is reported as 409. */
+    private int maxAttempts = 3;
+    /** Upper bound of the random pause before a retry. */
+    private long maxBackoffMs = 25;
+}
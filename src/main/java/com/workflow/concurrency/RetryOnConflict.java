@@ -0,0 +1,17 @@
+package com.workflow.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Re-runs a transactional method that re-validates what it writes when it loses an optimistic-lock race. */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+
+    /** Endpoint name the conflict metrics are tagged with. */
+    String value();
+}
@@ -0,0 +1,15 @@
+package com.workflow.concurrency;
+
+/** Classes of database work that get their own share of connections. */
+public enum Workload {
+    /** Login and registration writes. */
+    AUTH,
+    /** Workflow and user state changes. */
+    WRITE,
+    /** Single-entity and per-user reads behind interactive screens. */
+    INTERACTIVE_READ,
+    /** Admin and reporting scans across all workflows or users. */
+    BULK_READ,
+    /** The application's own scheduled work. */
+    BACKGROUND
+}
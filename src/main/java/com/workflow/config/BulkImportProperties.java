@@ -0,0 +1,15 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.bulk")
+@Getter
+@Setter
+public class BulkImportProperties {
+    /** Items written per transaction. */
+    private int chunkSize = 500;
+}
@@ -0,0 +1,41 @@
+package com.workflow.config;
+
+import com.workflow.datasource.GovernedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/** Puts a {@link GovernedDataSource} in front of the connection pool when {@code app.datasource.governor.enabled}. */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.governor", name = "enabled", havingValue = "true")
+public class DataSourceGovernorConfig {
+
+    @Bean
+    public DataSourceGovernor dataSourceGovernor(DataSourceGovernorProperties properties, MeterRegistry meterRegistry) {
+        return pool -> new GovernedDataSource(pool, pool.getPoolName() != null ? pool.getPoolName() : "primary",
+                pool.getMaximumPoolSize(), properties.getMaxWait(), meterRegistry);
+    }
+
+    @Bean
+    static BeanPostProcessor governAutoConfiguredPool(ObjectProvider<DataSourceGovernor> governor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof HikariDataSource pool && "dataSource".equals(beanName)
+                        ? governor.getObject().govern(pool)
+                        : bean;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface DataSourceGovernor {
+        DataSource govern(HikariDataSource pool);
+    }
+}
@@ -0,0 +1,19 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.datasource.governor")
+@Getter
+@Setter
+public class DataSourceGovernorProperties {
+    /** Off: callers go straight to the pool and wait at most its connection-timeout. */
+    private boolean enabled = false;
+    /** How long a caller queues for a connection permit before the request fails. */
+    private Duration maxWait = Duration.ofSeconds(30);
+}
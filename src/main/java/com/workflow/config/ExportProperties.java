@@ -0,0 +1,15 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.export")
+@Getter
+@Setter
+public class ExportProperties {
+    /** Rows the export cursor fetches per round trip. */
+    private int fetchSize = 500;
+}
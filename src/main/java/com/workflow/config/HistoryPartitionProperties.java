@@ -0,0 +1,19 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.history.partitions")
+@Getter
+@Setter
+public class HistoryPartitionProperties {
+    /** Off where approval_history is not partitioned, e.g. the H2 test schema. */
+    private boolean enabled = true;
+    /** Monthly partitions kept created ahead of the current month. */
+    private int monthsAhead = 3;
+    /** Partitions older than this many months are detached; 0 keeps everything attached. */
+    private int retentionMonths = 0;
+}
@@ -0,0 +1,21 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.history.writer")
+@Getter
+@Setter
+public class HistoryWriterProperties {
+    /** Most rows moved from the outbox per INSERT. */
+    private int batchSize = 500;
+    /** How long a flush waits after the first commit that asked for it. */
+    private Duration linger = Duration.ofMillis(50);
+    /** Sweep for rows nobody asked to flush, e.g. left by a crash. */
+    private Duration sweepInterval = Duration.ofSeconds(5);
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "app.jwt")
 @Getter
@@ -12,4 +14,24 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String secret;
     private long expirationMs;
+    private VerifiedCache verifiedCache = new VerifiedCache();
+    private Revocation revocation = new Revocation();
+
+    @Getter
+    @Setter
+    public static class VerifiedCache {
+        /** Distinct tokens remembered as verified. */
+        private long maximumSize = 10_000;
+        /** Longest a token is trusted without re-checking its signature, capped by its own expiry. */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Revocation {
+        /** How often revocations made on other instances are picked up. */
+        private Duration refreshInterval = Duration.ofSeconds(2);
+        /** How far before the previous refresh each refresh looks again, for late commits and clock skew. */
+        private Duration overlap = Duration.ofSeconds(30);
+    }
 }
@@ -0,0 +1,19 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.pagination")
+@Getter
+@Setter
+public class PaginationProperties {
+    private int maxSize = 100;
+
+    /** Clamps a client-requested page size into {@code [1, maxSize]}. */
+    public int clamp(int requestedSize) {
+        return Math.max(1, Math.min(requestedSize, maxSize));
+    }
+}
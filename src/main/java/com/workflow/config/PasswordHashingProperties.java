@@ -0,0 +1,19 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.auth.hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    /** BCrypt cost (log2 rounds) for new hashes; weaker ones are rehashed on login. */
+    private int bcryptStrength = 10;
+    /** Threads hashing passwords; BCrypt is CPU-bound, so by default half the cores. */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    /** Logins and registrations allowed to wait for a hashing thread before new ones get a 503. */
+    private int queueCapacity = 200;
+}
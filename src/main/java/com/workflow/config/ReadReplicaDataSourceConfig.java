@@ -0,0 +1,95 @@
+package com.workflow.config;
+
+import com.workflow.datasource.ReadYourWritesTracker;
+import com.workflow.datasource.ReplicaLagMonitor;
+import com.workflow.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/** Replaces the auto-configured DataSource with primary + replica pools when {@code app.datasource.routing.enabled}. */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaProperties properties, DataSourceProperties primary,
+                                               MeterRegistry meterRegistry, TaskScheduler taskScheduler) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        Map<String, String> lagQueries = new HashMap<>();
+        List<ReadReplicaProperties.Replica> configured = properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReadReplicaProperties.Replica replica = configured.get(i);
+            String name = "replica-" + (i + 1);
+            replicas.put(name, replicaPool(name, replica, primary, meterRegistry));
+            lagQueries.put(name, replica.getLagQuery());
+        }
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, lagQueries, properties.getMaxReplicaLag(), meterRegistry);
+        monitor.refresh();
+        taskScheduler.scheduleWithFixedDelay(monitor::refresh, properties.getLagCheckInterval());
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties, TaskScheduler taskScheduler) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+        taskScheduler.scheduleWithFixedDelay(tracker::purgeExpired, properties.getReadYourWritesWindow().multipliedBy(10));
+        return tracker;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ObjectProvider<DataSourceGovernorConfig.DataSourceGovernor> governors) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        DataSourceGovernorConfig.DataSourceGovernor governor = governors.getIfAvailable();
+        UnaryOperator<DataSource> governed = pool -> governor != null ? governor.govern((HikariDataSource) pool) : pool;
+        Map<Object, Object> targets = new HashMap<>();
+        replicaLagMonitor.replicaDataSources().forEach((name, pool) -> targets.put(name, governed.apply(pool)));
+        DataSource primary = governed.apply(primaryDataSource);
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource replicaPool(String name, ReadReplicaProperties.Replica replica,
+                                                DataSourceProperties primary, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername());
+        pool.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+        pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+        pool.setMinimumIdle(1);
+        pool.setReadOnly(true);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
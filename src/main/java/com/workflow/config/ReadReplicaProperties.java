@@ -0,0 +1,39 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "app.datasource.routing")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+    /** Off: one pool against spring.datasource, exactly as without routing. */
+    private boolean enabled = false;
+    /** After a user's write commits, their read-only transactions stay on the primary this long. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    /** Replicas lagging more than this (or failing the lag query) are skipped until they catch up. */
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        /** Defaults to spring.datasource.username / password. */
+        private String username;
+        private String password;
+        private int maximumPoolSize = 5;
+        /** Must return the replica's lag in seconds; 0 when fully replayed. */
+        private String lagQuery = """
+                SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END""";
+    }
+}
@@ -0,0 +1,19 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.users.cache")
+@Getter
+@Setter
+public class UserCacheProperties {
+    /** Users kept per key (id, username) before the least recently used are dropped. */
+    private long maximumSize = 10_000;
+    /** How long an entry is served after it was loaded; changes made on this instance evict at once. */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,29 @@
+package com.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.events")
+@Getter
+@Setter
+public class WorkflowEventProperties {
+    /** Comment sent to every subscriber this often. */
+    private Duration heartbeat = Duration.ofSeconds(15);
+    /** A stream is closed after this long. */
+    private Duration timeout = Duration.ofMinutes(30);
+    /** Events queued for one subscriber before it is disconnected. */
+    private int bufferSize = 256;
+    /** Recent events kept for clients reconnecting with Last-Event-ID. */
+    private int replaySize = 10_000;
+    /** Threads writing queued events to the streams. */
+    private int senderThreads = 2;
+    /** Subscribers waiting for a sender thread. */
+    private int senderQueueSize = 1024;
+    /** A write to one stream blocked this long disconnects it. */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+}
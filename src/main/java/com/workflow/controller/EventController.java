@@ -0,0 +1,34 @@
+package com.workflow.controller;
+
+import com.workflow.event.WorkflowEventHub;
+import com.workflow.service.UserService;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** The caller's inbox and workflow changes as Server-Sent Events; on {@code resync}, refetch both. */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Tag(name="Events", description="Pushed inbox and workflow changes")
+@SecurityRequirement(name="bearerAuth")
+public class EventController {
+
+    private final WorkflowEventHub workflowEvents;
+    private final UserService userService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return workflowEvents.subscribe(userService.findIdByUsername(userDetails.getUsername()), lastEventId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.workflow.controller;
+
+import com.workflow.dto.request.ExportFilter;
+import com.workflow.enums.WorkflowStatus;
+import com.workflow.service.ExportService;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/** Full exports as NDJSON, streamed as rows are read. */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name="Export", description="Streaming exports of workflows and approval history")
+@SecurityRequirement(name="bearerAuth")
+public class ExportController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final ExportService exportService;
+
+    @GetMapping(value = "/workflows")
+    public void exportWorkflows(
+            @RequestParam(required = false) WorkflowStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) throws IOException {
+        exportService.exportWorkflows(new ExportFilter(status, from, to), () -> ndjson(response));
+    }
+
+    @GetMapping(value = "/history")
+    public void exportHistory(
+            @RequestParam(required = false) WorkflowStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) throws IOException {
+        exportService.exportHistory(new ExportFilter(status, from, to), () -> ndjson(response));
+    }
+
+    private static OutputStream ndjson(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        return response.getOutputStream();
+    }
+}
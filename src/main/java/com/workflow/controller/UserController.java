@@ -1,10 +1,16 @@
 package com.workflow.controller;
 
+import com.workflow.config.PaginationProperties;
+import com.workflow.dto.request.KeysetPageRequest;
 import com.workflow.dto.response.ApiResponse;
+import com.workflow.dto.response.BulkReport;
+import com.workflow.dto.response.CursorPage;
 import com.workflow.dto.response.UserResponse;
+import com.workflow.service.UserImportService;
 import com.workflow.service.UserService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,6 +18,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -22,6 +29,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final PaginationProperties paginationProperties;
 
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(
@@ -41,16 +50,62 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(userService.getAllUsers()));
     }
 
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getAllUsersAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(userService.getAllUsers(page)));
+    }
+
     @GetMapping("/by-role/{role}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByRole(@PathVariable String role) {
         return ResponseEntity.ok(ApiResponse.success(userService.getUsersByRole(role)));
     }
 
+    @GetMapping(value = "/by-role/{role}", params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getUsersByRoleAfter(
+            @PathVariable String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(userService.getUsersByRole(role, page)));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkReport>> importUsersCsv(HttpServletRequest request) throws IOException {
+        return importUsers(request, UserImportService.Format.CSV);
+    }
+
+    @PostMapping(value = "/import", consumes = ExportController.NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkReport>> importUsersNdjson(HttpServletRequest request) throws IOException {
+        return importUsers(request, UserImportService.Format.NDJSON);
+    }
+
     @PatchMapping("/{id}/deactivate")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<Void>> deactivateUser(@PathVariable Long id) {
         userService.deactivateUser(id);
         return ResponseEntity.ok(ApiResponse.success("User deactivated successfully", null));
     }
+
+    @PostMapping("/{id}/revoke-tokens")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> revokeTokens(@PathVariable Long id) {
+        userService.revokeTokens(id);
+        return ResponseEntity.ok(ApiResponse.success("Tokens revoked successfully", null));
+    }
+
+    private ResponseEntity<ApiResponse<BulkReport>> importUsers(HttpServletRequest request, UserImportService.Format format)
+            throws IOException {
+        BulkReport report = userImportService.importUsers(request.getInputStream(), format);
+        return ResponseEntity.ok(ApiResponse.success("User import processed", report));
+    }
 }
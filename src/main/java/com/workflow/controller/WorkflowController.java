@@ -1,27 +1,43 @@
 package com.workflow.controller;
 
+import com.workflow.config.PaginationProperties;
 import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.dto.request.BatchApprovalRequest;
 import com.workflow.dto.request.CreateWorkflowRequest;
+import com.workflow.dto.request.KeysetPageRequest;
+import com.workflow.dto.request.WorkflowField;
 import com.workflow.dto.response.ApiResponse;
 import com.workflow.dto.response.ApprovalHistoryResponse;
+import com.workflow.dto.response.BulkReport;
+import com.workflow.dto.response.CursorPage;
+import com.workflow.dto.response.InboxItemResponse;
 import com.workflow.dto.response.PageResponse;
 import com.workflow.dto.response.WorkflowResponse;
+import com.workflow.dto.response.WorkflowSummary;
+import com.workflow.service.WorkflowImportService;
 import com.workflow.service.WorkflowService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/workflows")
@@ -30,7 +46,12 @@ import java.util.List;
 @SecurityRequirement(name="bearerAuth")
 public class WorkflowController {
 
+    // Cached responses are per user, and checked with the server before each reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final WorkflowService workflowService;
+    private final WorkflowImportService workflowImportService;
+    private final PaginationProperties paginationProperties;
 
     @PostMapping
     public ResponseEntity<ApiResponse<WorkflowResponse>> createWorkflow(
@@ -41,18 +62,42 @@ public class WorkflowController {
                 .body(ApiResponse.success("Workflow created successfully", response));
     }
 
+    /** Creates workflows from a JSON array of create requests; answers 200 with a result per item. */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BulkReport>> createWorkflows(
+            @RequestParam(defaultValue = "false") boolean submit,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        BulkReport report = workflowImportService.importWorkflows(request.getInputStream(), userDetails.getUsername(), submit);
+        return ResponseEntity.ok(ApiResponse.success("Bulk import processed", report));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<WorkflowResponse>> getWorkflow(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.success(workflowService.getWorkflowById(id)));
+    public ResponseEntity<ApiResponse<WorkflowResponse>> getWorkflow(@PathVariable Long id, WebRequest request) {
+        return conditional(request, workflowService.getWorkflowTag(id), () -> workflowService.getWorkflowById(id));
     }
 
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<PageResponse<WorkflowResponse>>> getMyWorkflows(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return ResponseEntity.ok(ApiResponse.success(workflowService.getMyWorkflows(userDetails.getUsername(), pageable)));
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, paginationProperties.clamp(size), Sort.by("createdAt").descending());
+        return conditional(request, workflowService.getChangeTag(userDetails.getUsername()),
+                () -> workflowService.getMyWorkflows(userDetails.getUsername(), pageable));
+    }
+
+    @GetMapping(value = "/my", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<WorkflowResponse>>> getMyWorkflowsAfter(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest request) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return conditional(request, workflowService.getChangeTag(userDetails.getUsername()),
+                () -> workflowService.getMyWorkflows(userDetails.getUsername(), page));
     }
 
     @GetMapping
@@ -60,20 +105,118 @@ public class WorkflowController {
     public ResponseEntity<ApiResponse<PageResponse<WorkflowResponse>>> getAllWorkflows(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(page, paginationProperties.clamp(size), Sort.by("createdAt").descending());
         return ResponseEntity.ok(ApiResponse.success(workflowService.getAllWorkflows(pageable)));
     }
 
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CursorPage<WorkflowResponse>>> getAllWorkflowsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(workflowService.getAllWorkflows(page)));
+    }
+
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<ApiResponse<PageResponse<WorkflowResponse>>> getWorkflowsByStatus(
             @PathVariable String status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(page, paginationProperties.clamp(size), Sort.by("createdAt").descending());
         return ResponseEntity.ok(ApiResponse.success(workflowService.getWorkflowsByStatus(status, pageable)));
     }
 
+    @GetMapping(value = "/status/{status}", params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CursorPage<WorkflowResponse>>> getWorkflowsByStatusAfter(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(workflowService.getWorkflowsByStatus(status, page)));
+    }
+
+    // The list endpoints with fields=, a sparse fieldset of WorkflowField names
+
+    @GetMapping(value = "/my", params = "fields")
+    public ResponseEntity<ApiResponse<PageResponse<WorkflowSummary>>> getMyWorkflowSummaries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        Set<WorkflowField> selected = WorkflowField.parse(fields);
+        Pageable pageable = PageRequest.of(page, paginationProperties.clamp(size), Sort.by("createdAt").descending());
+        return conditional(request, workflowService.getChangeTag(userDetails.getUsername()),
+                () -> workflowService.getMyWorkflowSummaries(userDetails.getUsername(), pageable, selected));
+    }
+
+    @GetMapping(value = "/my", params = {"fields", "cursor"})
+    public ResponseEntity<ApiResponse<CursorPage<WorkflowSummary>>> getMyWorkflowSummariesAfter(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest request) {
+        Set<WorkflowField> selected = WorkflowField.parse(fields);
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return conditional(request, workflowService.getChangeTag(userDetails.getUsername()),
+                () -> workflowService.getMyWorkflowSummaries(userDetails.getUsername(), page, selected));
+    }
+
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<PageResponse<WorkflowSummary>>> getAllWorkflowSummaries(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, paginationProperties.clamp(size), Sort.by("createdAt").descending());
+        return ResponseEntity.ok(ApiResponse.success(
+                workflowService.getAllWorkflowSummaries(pageable, WorkflowField.parse(fields))));
+    }
+
+    @GetMapping(params = {"fields", "cursor"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CursorPage<WorkflowSummary>>> getAllWorkflowSummariesAfter(
+            @RequestParam String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(
+                workflowService.getAllWorkflowSummaries(page, WorkflowField.parse(fields))));
+    }
+
+    @GetMapping(value = "/status/{status}", params = "fields")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<PageResponse<WorkflowSummary>>> getWorkflowSummariesByStatus(
+            @PathVariable String status,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, paginationProperties.clamp(size), Sort.by("createdAt").descending());
+        return ResponseEntity.ok(ApiResponse.success(
+                workflowService.getWorkflowSummariesByStatus(status, pageable, WorkflowField.parse(fields))));
+    }
+
+    @GetMapping(value = "/status/{status}", params = {"fields", "cursor"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CursorPage<WorkflowSummary>>> getWorkflowSummariesByStatusAfter(
+            @PathVariable String status,
+            @RequestParam String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(
+                workflowService.getWorkflowSummariesByStatus(status, page, WorkflowField.parse(fields))));
+    }
+
     @PostMapping("/{id}/submit")
     public ResponseEntity<ApiResponse<WorkflowResponse>> submitWorkflow(
             @PathVariable Long id,
@@ -90,6 +233,14 @@ public class WorkflowController {
         return ResponseEntity.ok(ApiResponse.success("Approval action processed", response));
     }
 
+    @PostMapping("/approve-batch")
+    public ResponseEntity<ApiResponse<BulkReport>> processApprovals(
+            @Valid @RequestBody BatchApprovalRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        BulkReport report = BulkReport.of(workflowService.processApprovals(request.items(), userDetails.getUsername()));
+        return ResponseEntity.ok(ApiResponse.success("Batch approval processed", report));
+    }
+
     @PostMapping("/{id}/cancel")
     public ResponseEntity<ApiResponse<WorkflowResponse>> cancelWorkflow(
             @PathVariable Long id,
@@ -99,12 +250,41 @@ public class WorkflowController {
 
     @GetMapping("/pending-for-me")
     public ResponseEntity<ApiResponse<List<WorkflowResponse>>> getPendingForMe(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.success(workflowService.getPendingWorkflowsForApprover(userDetails.getUsername())));
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest request) {
+        return conditional(request, workflowService.getChangeTag(userDetails.getUsername()),
+                () -> workflowService.getPendingWorkflowsForApprover(userDetails.getUsername()));
+    }
+
+    @GetMapping(value = "/pending-for-me", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<InboxItemResponse>>> getPendingForMeAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest request) {
+        KeysetPageRequest page = KeysetPageRequest.of(cursor, paginationProperties.clamp(size), includeTotal);
+        return conditional(request, workflowService.getChangeTag(userDetails.getUsername()),
+                () -> workflowService.getInbox(userDetails.getUsername(), page));
+    }
+
+    @GetMapping("/pending-for-me/count")
+    public ResponseEntity<ApiResponse<Long>> countPendingForMe(@AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(workflowService.countPendingForApprover(userDetails.getUsername())));
     }
 
     @GetMapping("/{id}/history")
-    public ResponseEntity<ApiResponse<List<ApprovalHistoryResponse>>> getWorkflowHistory(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.success(workflowService.getWorkflowHistory(id)));
+    public ResponseEntity<ApiResponse<List<ApprovalHistoryResponse>>> getWorkflowHistory(@PathVariable Long id,
+                                                                                         WebRequest request) {
+        return conditional(request, workflowService.getWorkflowTag(id), () -> workflowService.getWorkflowHistory(id));
+    }
+
+    /** Answers 304 when the request's If-None-Match holds {@code tag}; otherwise loads the body and tags it. */
+    private static <T> ResponseEntity<ApiResponse<T>> conditional(WebRequest request, String tag, Supplier<T> body) {
+        String etag = "\"" + tag + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(ApiResponse.success(body.get()));
     }
 }
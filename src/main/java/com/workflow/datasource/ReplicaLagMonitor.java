@@ -0,0 +1,69 @@
+package com.workflow.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Polls each replica's lag and keeps the list of replicas within the limit. */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, String> lagQueries;
+    private final double maxLagSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private volatile List<String> usable = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Map<String, String> lagQueries,
+                             Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagQueries = lagQueries;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        replicas.keySet().forEach(name -> Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, -1.0))
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .register(meterRegistry));
+    }
+
+    public Map<String, DataSource> replicaDataSources() {
+        return replicas;
+    }
+
+    /** Replicas currently within the lag limit, in configuration order; empty means "use the primary". */
+    public List<String> usableReplicas() {
+        return usable;
+    }
+
+    public void refresh() {
+        List<String> healthy = replicas.keySet().stream()
+                .filter(this::withinLag)
+                .toList();
+        if (!healthy.equals(usable)) {
+            log.info("Replicas serving reads: {}", healthy.isEmpty() ? "none, reading from primary" : healthy);
+        }
+        usable = healthy;
+    }
+
+    private boolean withinLag(String name) {
+        try (Connection connection = replicas.get(name).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQueries.get(name))) {
+            double lag = rs.next() ? rs.getDouble(1) : Double.MAX_VALUE;
+            lagSeconds.put(name, lag);
+            return lag <= maxLagSeconds;
+        } catch (Exception e) {
+            lagSeconds.put(name, -1.0);
+            log.debug("Lag check failed for replica {}: {}", name, e.getMessage());
+            return false;
+        }
+    }
+}
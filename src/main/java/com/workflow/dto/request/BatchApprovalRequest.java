@@ -0,0 +1,26 @@
+package com.workflow.dto.request;
+
+import com.workflow.enums.ApprovalAction;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchApprovalRequest(
+        @NotEmpty(message = "At least one item is required")
+        @Size(max = 1000, message = "At most 1000 items per batch")
+        @Valid
+        List<Item> items
+) {
+    public record Item(
+            @NotNull(message = "Workflow ID is required")
+            Long workflowId,
+
+            @NotNull(message = "Action is required")
+            ApprovalAction action,
+
+            String comments
+    ) {}
+}
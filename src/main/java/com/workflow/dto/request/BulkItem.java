@@ -0,0 +1,4 @@
+package com.workflow.dto.request;
+
+/** One item of a bulk request, with its zero-based position in the request for the result report. */
+public record BulkItem<T>(int index, T item) {}
@@ -0,0 +1,8 @@
+package com.workflow.dto.request;
+
+import com.workflow.enums.WorkflowStatus;
+
+import java.time.LocalDateTime;
+
+/** Narrows an export; every part is optional, {@code from} inclusive, {@code to} exclusive, {@code status} the workflow's. */
+public record ExportFilter(WorkflowStatus status, LocalDateTime from, LocalDateTime to) {}
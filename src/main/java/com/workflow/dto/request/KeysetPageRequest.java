@@ -0,0 +1,9 @@
+package com.workflow.dto.request;
+
+/** A keyset page: up to {@code size} rows strictly after {@code after}, newest first; counted only when asked. */
+public record KeysetPageRequest(KeysetCursor after, int size, boolean includeTotal) {
+
+    public static KeysetPageRequest of(String cursor, int size, boolean includeTotal) {
+        return new KeysetPageRequest(KeysetCursor.decode(cursor), size, includeTotal);
+    }
+}
@@ -0,0 +1,60 @@
+package com.workflow.dto.request;
+
+import com.workflow.exception.WorkflowException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** A property a {@code fields=} sparse fieldset may name; {@code id} is always included. */
+public enum WorkflowField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    CURRENT_LEVEL("currentLevel"),
+    TOTAL_LEVELS("totalLevels"),
+    METADATA("metadata"),
+    CREATED_BY("createdBy"),
+    CREATED_BY_NAME("createdByName"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    public static final Set<WorkflowField> SUMMARY =
+            Set.copyOf(EnumSet.of(ID, TITLE, STATUS, CURRENT_LEVEL, TOTAL_LEVELS, CREATED_BY_NAME));
+
+    private static final String SUMMARY_NAME = "summary";
+
+    private final String property;
+
+    WorkflowField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /** Parses a comma-separated list of property names and {@code summary}, e.g. {@code summary,createdAt}. */
+    public static Set<WorkflowField> parse(String fields) {
+        EnumSet<WorkflowField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.equals(SUMMARY_NAME)) {
+                parsed.addAll(SUMMARY);
+            } else if (!trimmed.isEmpty()) {
+                parsed.add(Arrays.stream(values())
+                        .filter(field -> field.property.equals(trimmed))
+                        .findFirst()
+                        .orElseThrow(() -> new WorkflowException("Unknown field '" + trimmed + "'; expected "
+                                + SUMMARY_NAME + " or any of " + names())));
+            }
+        }
+        return parsed;
+    }
+
+    private static String names() {
+        return Arrays.stream(values()).map(WorkflowField::property).collect(Collectors.joining(", "));
+    }
+}
@@ -17,7 +17,7 @@ public record ApiResponse<T>(
         return ApiResponse.<T>builder()
                 .success(true)
                 .data(data)
-                .timestamp(LocalDateTime.now())
+                .timestamp(ResponseClock.now())
                 .build();
     }
 
@@ -26,7 +26,7 @@ public record ApiResponse<T>(
                 .success(true)
                 .message(message)
                 .data(data)
-                .timestamp(LocalDateTime.now())
+                .timestamp(ResponseClock.now())
                 .build();
     }
 
@@ -34,7 +34,7 @@ public record ApiResponse<T>(
         return ApiResponse.<T>builder()
                 .success(false)
                 .message(message)
-                .timestamp(LocalDateTime.now())
+                .timestamp(ResponseClock.now())
                 .build();
     }
 }
@@ -0,0 +1,28 @@
+package com.workflow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/** Outcome of one item of a bulk request, by its zero-based position in the request. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResult(
+        int index,
+        String outcome,
+        Long id,
+        String error
+) {
+    public static final String FAILED = "FAILED";
+
+    public static BulkItemResult succeeded(int index, String outcome, Long id) {
+        return new BulkItemResult(index, outcome, id, null);
+    }
+
+    public static BulkItemResult failed(int index, String error) {
+        return new BulkItemResult(index, FAILED, null, error);
+    }
+
+    @JsonIgnore
+    public boolean isFailed() {
+        return FAILED.equals(outcome);
+    }
+}
@@ -0,0 +1,16 @@
+package com.workflow.dto.response;
+
+import java.util.List;
+
+/** Result of a bulk request: the totals, then one result per item in request order. */
+public record BulkReport(
+        int received,
+        int succeeded,
+        int failed,
+        List<BulkItemResult> items
+) {
+    public static BulkReport of(List<BulkItemResult> items) {
+        int failed = (int) items.stream().filter(BulkItemResult::isFailed).count();
+        return new BulkReport(items.size(), items.size() - failed, failed, items);
+    }
+}
@@ -0,0 +1,34 @@
+package com.workflow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.workflow.dto.request.KeysetCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+    /** Builds a page from a query that fetched up to {@code size + 1} rows, the extra one marking a next page. */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Long totalElements,
+                                       Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(createdAt.apply(last), id.apply(last)).encode();
+        }
+        return new CursorPage<>(content, size, nextCursor, hasNext, totalElements);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), size, nextCursor, hasNext, totalElements);
+    }
+}
@@ -0,0 +1,9 @@
+package com.workflow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/** One line of the history export: the entry as the history endpoint shows it, plus its workflow. */
+public record HistoryExportEntry(
+        Long workflowId,
+        @JsonUnwrapped ApprovalHistoryResponse entry
+) {}
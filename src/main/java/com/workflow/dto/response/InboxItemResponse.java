@@ -0,0 +1,13 @@
+package com.workflow.dto.response;
+
+import java.time.LocalDateTime;
+
+public record InboxItemResponse(
+        Long workflowId,
+        String title,
+        String requestedBy,
+        int level,
+        int totalLevels,
+        String stepName,
+        LocalDateTime pendingSince
+) {}
@@ -0,0 +1,26 @@
+package com.workflow.dto.response;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/** {@link LocalDateTime#now()} for response timestamps, resolved at most once per millisecond. */
+final class ResponseClock {
+
+    private static volatile Tick last = new Tick(Long.MIN_VALUE, null);
+
+    private ResponseClock() {
+    }
+
+    static LocalDateTime now() {
+        long millis = System.currentTimeMillis();
+        Tick tick = last;
+        if (tick.millis() != millis) {
+            tick = new Tick(millis, LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()));
+            last = tick;
+        }
+        return tick.time();
+    }
+
+    private record Tick(long millis, LocalDateTime time) {}
+}
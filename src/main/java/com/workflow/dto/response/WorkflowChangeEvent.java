@@ -0,0 +1,13 @@
+package com.workflow.dto.response;
+
+import java.time.LocalDateTime;
+
+/** Payload of a pushed event: the state a workflow was left in by a committed transition. */
+public record WorkflowChangeEvent(
+        Long workflowId,
+        String title,
+        String status,
+        int currentLevel,
+        int totalLevels,
+        LocalDateTime at
+) {}
@@ -0,0 +1,21 @@
+package com.workflow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/** A workflow as a sparse fieldset selects it: only the requested properties are set. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WorkflowSummary(
+        Long id,
+        String title,
+        String description,
+        String status,
+        Integer currentLevel,
+        Integer totalLevels,
+        String metadata,
+        String createdBy,
+        String createdByName,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
@@ -8,8 +8,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/** Append-only; partitioned by month on {@code created_at} in PostgreSQL (see V5 migration). */
 @Entity
-@Table(name = "approval_history")
+@Table(name = "approval_history", indexes = {
+        @Index(name = "idx_approval_history_workflow_created", columnList = "workflow_id, created_at DESC"),
+        @Index(name = "idx_approval_history_actor_created", columnList = "actor_id, created_at DESC")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -19,7 +23,8 @@ import java.time.LocalDateTime;
 public class ApprovalHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_history_seq")
+    @SequenceGenerator(name = "approval_history_seq", sequenceName = "approval_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,6 +52,6 @@ public class ApprovalHistory {
     private String toStatus;
 
     @CreatedDate
-    @Column(updatable = false)
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 }
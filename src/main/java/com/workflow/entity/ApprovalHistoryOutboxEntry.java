@@ -0,0 +1,49 @@
+package com.workflow.entity;
+
+import com.workflow.enums.ApprovalAction;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** A history row not yet moved into {@code approval_history} by {@code ApprovalHistoryWriter}. */
+@Entity
+@Table(name = "approval_history_outbox", indexes = {
+        @Index(name = "idx_approval_history_outbox_created", columnList = "created_at, id"),
+        @Index(name = "idx_approval_history_outbox_workflow", columnList = "workflow_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalHistoryOutboxEntry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "workflow_id", nullable = false)
+    private Long workflowId;
+
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApprovalAction action;
+
+    @Column(nullable = false)
+    private int level;
+
+    @Column(columnDefinition = "TEXT")
+    private String comments;
+
+    @Column(nullable = false)
+    private String fromStatus;
+
+    @Column(nullable = false)
+    private String toStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -10,7 +10,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "approval_steps")
+@Table(name = "approval_steps", indexes = {
+        @Index(name = "uk_approval_steps_workflow_level", columnList = "workflow_id, level", unique = true),
+        @Index(name = "idx_approval_steps_approver", columnList = "approver_id, workflow_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -20,7 +23,8 @@ import java.time.LocalDateTime;
 public class ApprovalStep {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_steps_seq")
+    @SequenceGenerator(name = "approval_steps_seq", sequenceName = "approval_steps_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,6 +51,9 @@ public class ApprovalStep {
 
     private LocalDateTime actedAt;
 
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
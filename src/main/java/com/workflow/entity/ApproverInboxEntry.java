@@ -0,0 +1,56 @@
+package com.workflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/** One row per IN_PROGRESS workflow, owned by the approver of its current level. */
+@Entity
+@Table(name = "approver_inbox", indexes = {
+        @Index(name = "idx_approver_inbox_approver_pending", columnList = "approver_id, pending_since, workflow_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApproverInboxEntry implements Persistable<Long> {
+
+    @Id
+    @Column(name = "workflow_id")
+    private Long workflowId;
+
+    @Column(name = "approver_id", nullable = false)
+    private Long approverId;
+
+    @Column(nullable = false)
+    private int level;
+
+    @Column(nullable = false)
+    private int totalLevels;
+
+    @Column(length = 200)
+    private String stepName;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, length = 100)
+    private String requestedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime pendingSince;
+
+    // Entries are only ever inserted fresh on submit, so skip the merge-time existence check
+    @Override
+    public Long getId() {
+        return workflowId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -1,8 +1,10 @@
 package com.workflow.entity;
 
 import com.workflow.enums.Role;
+import com.workflow.repository.UserCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,8 +14,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_users_role_created", columnList = "role, created_at DESC, id DESC")
+})
+@EntityListeners({AuditingEntityListener.class, UserCacheEvictionListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +27,8 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -45,6 +51,19 @@ public class User {
     @Builder.Default
     private boolean active = true;
 
+    /** Tokens issued under an older epoch are rejected; see TokenRevocationRegistry. */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int tokenEpoch = 0;
+
+    /** Bumped when this user's workflows or inbox change; see UserChangeStampRepository. */
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long changeStamp;
+
+    private LocalDateTime tokensRevokedAt;
+
     @OneToMany(mappedBy = "createdBy", fetch = FetchType.LAZY)
     @Builder.Default
     private List<Workflow> createdWorkflows = new ArrayList<>();
@@ -59,4 +78,10 @@ public class User {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /** Revokes every token issued to this user so far. */
+    public void revokeTokens() {
+        tokenEpoch++;
+        tokensRevokedAt = LocalDateTime.now();
+    }
 }
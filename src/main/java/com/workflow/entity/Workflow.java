@@ -12,7 +12,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "workflows")
+@Table(name = "workflows", indexes = {
+        @Index(name = "idx_workflows_created", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_workflows_status_created", columnList = "status, created_at DESC, id DESC"),
+        @Index(name = "idx_workflows_creator_created", columnList = "created_by_id, created_at DESC, id DESC")
+})
+@NamedEntityGraph(
+        name = Workflow.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("createdBy"),
+                @NamedAttributeNode(value = "approvalSteps", subgraph = "approvalSteps")
+        },
+        subgraphs = @NamedSubgraph(name = "approvalSteps", attributeNodes = @NamedAttributeNode("approver"))
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -21,8 +33,12 @@ import java.util.List;
 @Builder
 public class Workflow {
 
+    /** Fetch plan for everything {@code WorkflowMapper.toResponse} touches. */
+    public static final String DETAIL_GRAPH = "Workflow.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workflows_seq")
+    @SequenceGenerator(name = "workflows_seq", sequenceName = "workflows_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -59,6 +75,10 @@ public class Workflow {
     @Column(columnDefinition = "TEXT")
     private String metadata;
 
+    /** Optimistic lock for transitions. */
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
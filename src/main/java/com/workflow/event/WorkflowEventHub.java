@@ -0,0 +1,382 @@
+package com.workflow.event;
+
+import com.workflow.config.WorkflowEventProperties;
+import com.workflow.dto.response.WorkflowChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed workflow transitions to their creator and approvers over Server-Sent Events, replaying
+ * missed ones on Last-Event-ID; slow or stuck subscribers are disconnected.
+ */
+@Component
+@Slf4j
+public class WorkflowEventHub {
+
+    private static final Outgoing HEARTBEAT = new Outgoing(null, null, null, "heartbeat");
+    private static final Outgoing CONNECTED = new Outgoing(null, null, null, "connected");
+    private static final Outgoing RESYNC = new Outgoing(null, "resync", null, null);
+
+    private final WorkflowEventProperties properties;
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+    private final Counter published;
+    private final Counter dropped;
+    // Guarded by sender
+    private int spareSenders;
+
+    // Guarded by itself, so a subscriber registering gets each event once, from the replay or live
+    private final ArrayDeque<Event> recent = new ArrayDeque<>();
+    private long sequence;
+
+    public WorkflowEventHub(WorkflowEventProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getSenderQueueSize()), task -> {
+                    Thread thread = new Thread(task, "event-sender-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        ExecutorServiceMetrics.monitor(meterRegistry, sender, "event-sender");
+        Gauge.builder("events.subscribers", subscribers, map -> map.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+        this.published = Counter.builder("events.published").register(meterRegistry);
+        this.dropped = Counter.builder("events.subscribers.dropped").register(meterRegistry);
+    }
+
+    /**
+     * Publishes a transition once the current transaction commits (right away outside one).
+     *
+     * @param previousApproverId whose inbox the workflow left, or null if it was in none
+     * @param nextApproverId     whose inbox it entered, or null if it entered none
+     */
+    public void publishAfterCommit(WorkflowChangeEvent change, Long creatorId, Long previousApproverId, Long nextApproverId) {
+        List<Notification> notifications = new ArrayList<>(3);
+        notifications.add(new Notification(creatorId, EventType.WORKFLOW_CHANGED, change));
+        if (previousApproverId != null && !previousApproverId.equals(nextApproverId)) {
+            notifications.add(new Notification(previousApproverId, EventType.INBOX_REMOVED, change));
+        }
+        if (nextApproverId != null) {
+            notifications.add(new Notification(nextApproverId, EventType.INBOX_ADDED, change));
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(notifications);
+            return;
+        }
+        // One synchronization per transaction, however many transitions it commits
+        @SuppressWarnings("unchecked")
+        List<Notification> pending = (List<Notification>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Notification> batch = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkflowEventHub.this);
+                    if (status == STATUS_COMMITTED) {
+                        dispatch(batch);
+                    }
+                }
+            });
+            pending = batch;
+        }
+        pending.addAll(notifications);
+    }
+
+    /** Opens a stream of the user's events, first replaying those after {@code lastEventId} if given. */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = newEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(failure -> subscriber.close());
+
+        synchronized (recent) {
+            // Added inside compute: a concurrent close() may remove the user's set once it is empty
+            subscribers.compute(userId, (id, userSubscribers) -> {
+                Set<Subscriber> updated = userSubscribers != null ? userSubscribers : ConcurrentHashMap.newKeySet();
+                updated.add(subscriber);
+                return updated;
+            });
+            subscriber.enqueue(CONNECTED);
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @Scheduled(fixedDelayString = "#{@workflowEventProperties.heartbeat.toMillis()}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.enqueue(HEARTBEAT)));
+    }
+
+    @Scheduled(fixedDelayString = "#{@workflowEventProperties.sendTimeout.toMillis() / 2}")
+    public void dropStuckSubscribers() {
+        long now = System.nanoTime();
+        long timeout = properties.getSendTimeout().toNanos();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.dropIfStuck(now, timeout)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private void dispatch(List<Notification> notifications) {
+        synchronized (recent) {
+            for (Notification notification : notifications) {
+                Event event = new Event(++sequence, notification.userId(), notification.type(), notification.change());
+                recent.addLast(event);
+                if (recent.size() > properties.getReplaySize()) {
+                    recent.removeFirst();
+                }
+                Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+                if (userSubscribers != null) {
+                    Outgoing outgoing = event.outgoing(instance);
+                    userSubscribers.forEach(subscriber -> subscriber.enqueue(outgoing));
+                }
+            }
+        }
+        published.increment(notifications.size());
+    }
+
+    /** Adds a thread in place of one stuck in a send, unless sender-threads of them were added already. */
+    private boolean addSpareSender() {
+        synchronized (sender) {
+            if (spareSenders >= properties.getSenderThreads()) {
+                return false;
+            }
+            spareSenders++;
+            int size = sender.getCorePoolSize() + 1;
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+            return true;
+        }
+    }
+
+    private void removeSpareSender() {
+        synchronized (sender) {
+            spareSenders--;
+            int size = sender.getCorePoolSize() - 1;
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    /** Called holding the lock on {@link #recent}. */
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long after = parseSequence(lastEventId);
+        long oldest = recent.isEmpty() ? sequence + 1 : recent.getFirst().sequence();
+        if (after < 0 || after > sequence || after < oldest - 1) {
+            subscriber.enqueue(RESYNC);
+            return;
+        }
+        List<Outgoing> missed = recent.stream()
+                .filter(event -> event.sequence() > after && event.userId().equals(subscriber.userId))
+                .map(event -> event.outgoing(instance))
+                .toList();
+        if (missed.size() >= properties.getBufferSize()) {
+            subscriber.enqueue(RESYNC);
+            return;
+        }
+        missed.forEach(subscriber::enqueue);
+    }
+
+    /** The sequence of an event id issued by this instance, or -1 for any other id. */
+    private long parseSequence(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash < 0 || !eventId.substring(0, dash).equals(instance)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public enum EventType {
+        /** To the creator: the workflow changed state. */
+        WORKFLOW_CHANGED("workflow-changed"),
+        /** To an approver: the workflow is now pending with them. */
+        INBOX_ADDED("inbox-added"),
+        /** To an approver: the workflow is no longer pending with them. */
+        INBOX_REMOVED("inbox-removed");
+
+        private final String eventName;
+
+        EventType(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    private record Notification(Long userId, EventType type, WorkflowChangeEvent change) {}
+
+    private record Event(long sequence, Long userId, EventType type, WorkflowChangeEvent change) {
+        Outgoing outgoing(String instance) {
+            return new Outgoing(instance + "-" + sequence, type.eventName(), change, null);
+        }
+    }
+
+    /** What is written to a stream; built into a fresh {@link SseEmitter.SseEventBuilder} per send. */
+    private record Outgoing(String id, String name, Object data, String comment) {
+        SseEmitter.SseEventBuilder toSse() {
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (comment != null) {
+                return event.comment(comment);
+            }
+            if (id != null) {
+                event.id(id);
+            }
+            return event.name(name).data(Objects.requireNonNullElse(data, ""), MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Guarded by this
+        private Thread sending;
+        private long sendStarted;
+        private boolean stuck;
+        private boolean spare;
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.getBufferSize());
+        }
+
+        void enqueue(Outgoing event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                dropped.increment();
+                log.info("Disconnecting event subscriber for user id={}: {} events behind", userId, queue.size());
+                close();
+                // Completing waits for a send in progress, which may be stuck on this slow client
+                execute(emitter::complete);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                for (Outgoing event; !closed.get() && (event = queue.poll()) != null; ) {
+                    synchronized (this) {
+                        sending = Thread.currentThread();
+                        sendStarted = System.nanoTime();
+                    }
+                    try {
+                        emitter.send(event.toSse());
+                    } catch (IOException | IllegalStateException e) {
+                        close();
+                    } finally {
+                        sendFinished();
+                    }
+                }
+                draining.set(false);
+                // An event enqueued after the last poll but before the flag cleared would be left behind
+            } while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        /** Called by the sender pool's check, from another thread than the one sending. */
+        synchronized void dropIfStuck(long now, long timeoutNanos) {
+            if (sending == null || stuck || now - sendStarted < timeoutNanos) {
+                return;
+            }
+            stuck = true;
+            dropped.increment();
+            log.info("Disconnecting event subscriber for user id={}: a write has been blocked for over {}",
+                    userId, properties.getSendTimeout());
+            close();
+            spare = addSpareSender();
+            if (!spare) {
+                log.warn("No spare event sender thread left; streams wait until a blocked write gives up");
+            }
+            sending.interrupt();
+        }
+
+        private void sendFinished() {
+            boolean gaveUp;
+            boolean replaced;
+            synchronized (this) {
+                sending = null;
+                gaveUp = stuck;
+                replaced = spare;
+            }
+            if (gaveUp) {
+                // The interrupt was meant for the send only, not for this pool thread's next task
+                Thread.interrupted();
+                if (replaced) {
+                    removeSpareSender();
+                }
+                emitter.complete();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.computeIfPresent(userId, (id, userSubscribers) -> {
+                    userSubscribers.remove(this);
+                    return userSubscribers.isEmpty() ? null : userSubscribers;
+                });
+            }
+        }
+
+        private void execute(Runnable task) {
+            try {
+                sender.execute(task);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+    }
+}
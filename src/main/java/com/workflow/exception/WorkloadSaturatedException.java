@@ -0,0 +1,7 @@
+package com.workflow.exception;
+
+public class WorkloadSaturatedException extends RuntimeException {
+    public WorkloadSaturatedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,53 @@
+package com.workflow.repository;
+
+import com.workflow.concurrency.Bulkhead;
+import com.workflow.concurrency.Workload;
+import com.workflow.config.HistoryPartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/** Keeps approval_history's monthly partitions ahead of the clock and detaches those past retention. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.history.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApprovalHistoryPartitionMaintainer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HistoryPartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.history.partitions.cron:0 0 3 * * *}")
+    @Bulkhead(Workload.BACKGROUND)
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            jdbcTemplate.queryForObject("SELECT ensure_approval_history_partition(?)", String.class,
+                    current.plusMonths(i).atDay(1));
+        }
+
+        if (properties.getRetentionMonths() > 0) {
+            YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+            List<String> detached = jdbcTemplate.queryForList("SELECT detach_approval_history_partitions(?)",
+                    String.class, oldestKept.atDay(1).atStartOfDay());
+            if (!detached.isEmpty()) {
+                log.info("Detached approval history partitions before {}: {}", oldestKept, detached);
+            }
+        }
+
+        Long stray = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM approval_history_default", Long.class);
+        if (stray != null && stray > 0) {
+            log.warn("{} approval history rows fell into the default partition; "
+                    + "move them out before creating the partition for their month", stray);
+        }
+    }
+}
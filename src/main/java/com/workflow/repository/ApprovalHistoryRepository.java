@@ -2,14 +2,23 @@ package com.workflow.repository;
 
 import com.workflow.entity.ApprovalHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ApprovalHistoryRepository extends JpaRepository<ApprovalHistory, Long> {
 
-    List<ApprovalHistory> findByWorkflowIdOrderByCreatedAtDesc(Long workflowId);
+    // Filter on the FK columns directly; the createdAt bound prunes older partitions
 
-    List<ApprovalHistory> findByActorIdOrderByCreatedAtDesc(Long actorId);
+    @Query("SELECT h FROM ApprovalHistory h WHERE h.workflow.id = :workflowId AND h.createdAt >= :since "
+            + "ORDER BY h.createdAt DESC")
+    List<ApprovalHistory> findByWorkflowIdSince(@Param("workflowId") Long workflowId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT h FROM ApprovalHistory h WHERE h.actor.id = :actorId AND h.createdAt >= :since "
+            + "ORDER BY h.createdAt DESC")
+    List<ApprovalHistory> findByActorIdSince(@Param("actorId") Long actorId, @Param("since") LocalDateTime since);
 }
@@ -0,0 +1,137 @@
+package com.workflow.repository;
+
+import com.workflow.concurrency.BulkheadAspect;
+import com.workflow.concurrency.Workload;
+import com.workflow.config.HistoryWriterProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** Group commit for approval history: moves committed rows from the outbox into {@code approval_history} in batches. */
+@Component
+@Slf4j
+public class ApprovalHistoryWriter {
+
+    private static final String SELECT_BATCH = """
+            SELECT id FROM approval_history_outbox ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String COPY_BATCH = """
+            INSERT INTO approval_history (id, workflow_id, actor_id, action, level, comments, from_status, to_status, created_at)
+            SELECT id, workflow_id, actor_id, action, level, comments, from_status, to_status, created_at
+            FROM approval_history_outbox WHERE id IN (:ids)
+            ORDER BY created_at, id
+            """;
+
+    private static final String DELETE_BATCH = "DELETE FROM approval_history_outbox WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkheadAspect bulkheads;
+    private final HistoryWriterProperties properties;
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "history-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ApprovalHistoryWriter(NamedParameterJdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+                                 BulkheadAspect bulkheads, HistoryWriterProperties properties, MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bulkheads = bulkheads;
+        this.properties = properties;
+        this.batchSizes = DistributionSummary.builder("history.writer.batch.size")
+                .description("History rows moved out of the outbox per flush")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("history.writer.flush")
+                .description("Time to move one batch of history rows out of the outbox")
+                .register(meterRegistry);
+        long sweep = properties.getSweepInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::drain, sweep, sweep, TimeUnit.MILLISECONDS);
+    }
+
+    /** Called by a transition that wrote to the outbox: flushes after its transaction commits. */
+    public void flushAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestFlush();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestFlush();
+            }
+        });
+    }
+
+    /** Moves up to one batch from the outbox into approval_history; returns the number of rows moved. */
+    public int flush() {
+        long start = System.nanoTime();
+        Integer moved = bulkheads.call(Workload.BACKGROUND, "ApprovalHistoryWriter.flush()",
+                () -> transactionTemplate.execute(status -> {
+                    List<Long> ids = jdbc.queryForList(SELECT_BATCH,
+                            new MapSqlParameterSource("limit", properties.getBatchSize()), Long.class);
+                    if (ids.isEmpty()) {
+                        return 0;
+                    }
+                    MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+                    jdbc.update(COPY_BATCH, params);
+                    jdbc.update(DELETE_BATCH, params);
+                    return ids.size();
+                }));
+        if (moved != null && moved > 0) {
+            batchSizes.record(moved);
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return moved == null ? 0 : moved;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                executor.schedule(this::drain, properties.getLinger().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the final drain, or the next start's sweep, moves the row
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        flushRequested.set(false);
+        try {
+            while (flush() >= properties.getBatchSize()) {
+                // A full batch: more rows are likely waiting
+            }
+        } catch (RuntimeException e) {
+            log.warn("Approval history flush failed; rows stay in the outbox for the next attempt", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        drain();
+    }
+}
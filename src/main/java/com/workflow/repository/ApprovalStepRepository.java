@@ -2,17 +2,23 @@ package com.workflow.repository;
 
 import com.workflow.entity.ApprovalStep;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+/** Queries filter on the FK paths ({@code s.workflow.id}) so the plans use the FK indexes. */
 @Repository
 public interface ApprovalStepRepository extends JpaRepository<ApprovalStep, Long> {
 
-    List<ApprovalStep> findByWorkflowId(Long workflowId);
+    @Query("SELECT s FROM ApprovalStep s WHERE s.workflow.id = :workflowId")
+    List<ApprovalStep> findByWorkflowId(@Param("workflowId") Long workflowId);
 
-    Optional<ApprovalStep> findByWorkflowIdAndLevel(Long workflowId, int level);
+    @Query("SELECT s FROM ApprovalStep s WHERE s.workflow.id = :workflowId AND s.level = :level")
+    Optional<ApprovalStep> findByWorkflowIdAndLevel(@Param("workflowId") Long workflowId, @Param("level") int level);
 
-    List<ApprovalStep> findByApproverId(Long approverId);
+    @Query("SELECT s FROM ApprovalStep s WHERE s.approver.id = :approverId")
+    List<ApprovalStep> findByApproverId(@Param("approverId") Long approverId);
 }
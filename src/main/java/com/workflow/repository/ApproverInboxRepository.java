@@ -0,0 +1,37 @@
+package com.workflow.repository;
+
+import com.workflow.dto.response.InboxItemResponse;
+import com.workflow.entity.ApproverInboxEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Inbox pages are oldest first, keyset on {@code (pendingSince, workflowId)}. */
+@Repository
+public interface ApproverInboxRepository extends JpaRepository<ApproverInboxEntry, Long> {
+
+    String SELECT_ITEMS = "SELECT new com.workflow.dto.response.InboxItemResponse("
+            + "e.workflowId, e.title, e.requestedBy, e.level, e.totalLevels, e.stepName, e.pendingSince) "
+            + "FROM ApproverInboxEntry e WHERE e.approverId = :approverId";
+    String OLDEST_FIRST = " ORDER BY e.pendingSince, e.workflowId";
+
+    @Query(SELECT_ITEMS + OLDEST_FIRST)
+    List<InboxItemResponse> findFirstPage(@Param("approverId") Long approverId, Limit limit);
+
+    @Query(SELECT_ITEMS + " AND (e.pendingSince > :pendingSince OR (e.pendingSince = :pendingSince AND e.workflowId > :workflowId))"
+            + OLDEST_FIRST)
+    List<InboxItemResponse> findPageAfter(@Param("approverId") Long approverId,
+                                          @Param("pendingSince") LocalDateTime pendingSince,
+                                          @Param("workflowId") Long workflowId, Limit limit);
+
+    @Query("SELECT e.workflowId FROM ApproverInboxEntry e WHERE e.approverId = :approverId" + OLDEST_FIRST)
+    List<Long> findWorkflowIds(@Param("approverId") Long approverId);
+
+    @Query("SELECT COUNT(e) FROM ApproverInboxEntry e WHERE e.approverId = :approverId")
+    long countByApproverId(@Param("approverId") Long approverId);
+}
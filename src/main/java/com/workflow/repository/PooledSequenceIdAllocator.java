@@ -0,0 +1,35 @@
+package com.workflow.repository;
+
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/** Hands out ids for JDBC inserts from a sequence Hibernate also draws from, pooled-lo style. */
+public class PooledSequenceIdAllocator {
+
+    private final JdbcOperations jdbc;
+    private final String nextValueSql;
+    private final int increment;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long last;
+
+    public PooledSequenceIdAllocator(JdbcOperations jdbc, String sequence, int increment) {
+        this.jdbc = jdbc;
+        this.nextValueSql = "SELECT nextval('" + sequence + "')";
+        this.increment = increment;
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next == 0 || next > last) {
+                next = jdbc.queryForObject(nextValueSql, Long.class);
+                last = next + increment - 1;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.workflow.repository;
+
+import com.workflow.enums.Role;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/** Write side for bulk user creation: one duplicate query per unique column and one JDBC batch per chunk. */
+@Repository
+public class UserBulkRepository {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, username, email, password, full_name, role, active, token_epoch, created_at, updated_at)
+            VALUES (:id, :username, :email, :password, :fullName, :role, TRUE, 0, :at, :at)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final PooledSequenceIdAllocator userIds;
+
+    public UserBulkRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+        this.userIds = new PooledSequenceIdAllocator(jdbc.getJdbcOperations(), "users_seq", 50);
+    }
+
+    /** The ones among {@code usernames} and {@code emails} that existing users already have. */
+    public Taken findTaken(Collection<String> usernames, Collection<String> emails) {
+        return new Taken(findExisting("username", usernames), findExisting("email", emails));
+    }
+
+    /**
+     * Inserts the users, active and with no tokens revoked, in the caller's transaction.
+     *
+     * @return the new ids, in the order of {@code users}
+     */
+    public List<Long> insertAll(List<NewUser> users, LocalDateTime at) {
+        List<Long> ids = new ArrayList<>(users.size());
+        List<SqlParameterSource> rows = new ArrayList<>(users.size());
+        for (NewUser user : users) {
+            long id = userIds.nextId();
+            ids.add(id);
+            rows.add(new MapSqlParameterSource()
+                    .addValue("id", id)
+                    .addValue("username", user.username())
+                    .addValue("email", user.email())
+                    .addValue("password", user.passwordHash())
+                    .addValue("fullName", user.fullName())
+                    .addValue("role", user.role().name())
+                    .addValue("at", at));
+        }
+        jdbc.batchUpdate(INSERT_USER, rows.toArray(SqlParameterSource[]::new));
+        return ids;
+    }
+
+    private Set<String> findExisting(String column, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbc.queryForList("SELECT " + column + " FROM users WHERE " + column + " IN (:values)",
+                new MapSqlParameterSource("values", values), String.class));
+    }
+
+    public record Taken(Set<String> usernames, Set<String> emails) {}
+
+    public record NewUser(String username, String email, String passwordHash, String fullName, Role role) {}
+}
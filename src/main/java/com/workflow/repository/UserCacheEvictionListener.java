@@ -0,0 +1,20 @@
+package com.workflow.repository;
+
+import com.workflow.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/** Evicts a user from the {@link UserDirectory} whenever Hibernate writes a change to it. */
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    private final ObjectProvider<UserDirectory> userDirectory;
+
+    @PostUpdate
+    @PostRemove
+    void evict(User user) {
+        userDirectory.ifAvailable(directory -> directory.evict(user.getId(), user.getUsername()));
+    }
+}
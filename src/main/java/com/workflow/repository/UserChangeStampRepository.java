@@ -0,0 +1,51 @@
+package com.workflow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/** The per-user change stamp, bumped whenever a user's own workflows or inbox change. */
+@Repository
+@RequiredArgsConstructor
+public class UserChangeStampRepository {
+
+    private static final String SELECT_STAMP = "SELECT id, change_stamp FROM users WHERE username = :username";
+
+    private static final String BUMP = "UPDATE users SET change_stamp = change_stamp + 1 WHERE id IN (:ids)";
+
+    // Creators and approvers of every workflow the user creates or approves: their lists embed the user
+    private static final String BUMP_SHARING = """
+            UPDATE users SET change_stamp = change_stamp + 1
+            WHERE id = :userId OR id IN (
+                SELECT w.created_by_id FROM workflows w WHERE w.id IN (%1$s)
+                UNION
+                SELECT s.approver_id FROM approval_steps s WHERE s.workflow_id IN (%1$s))
+            """.formatted("""
+            SELECT id FROM workflows WHERE created_by_id = :userId
+            UNION
+            SELECT workflow_id FROM approval_steps WHERE approver_id = :userId""");
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** The user's stamp, qualified by their id so two users' equal counters never compare equal. */
+    public Optional<String> findByUsername(String username) {
+        return jdbc.query(SELECT_STAMP, new MapSqlParameterSource("username", username),
+                        (rs, rowNum) -> rs.getLong("id") + "." + rs.getLong("change_stamp"))
+                .stream().findFirst();
+    }
+
+    public void bump(Collection<Long> userIds) {
+        if (!userIds.isEmpty()) {
+            jdbc.update(BUMP, new MapSqlParameterSource("ids", userIds));
+        }
+    }
+
+    /** For a change to the user themselves, which shows wherever they appear as creator or approver. */
+    public void bumpSharingWorkflowsWith(Long userId) {
+        jdbc.update(BUMP_SHARING, new MapSqlParameterSource("userId", userId));
+    }
+}
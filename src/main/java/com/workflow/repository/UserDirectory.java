@@ -0,0 +1,131 @@
+package com.workflow.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workflow.config.UserCacheProperties;
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache of users by id and by username in front of {@link UserRepository}. Entries are
+ * snapshots: {@link CachedUser#toEntity()} returns a detached copy, not for modifying.
+ */
+@Component
+public class UserDirectory {
+
+    private final UserRepository userRepository;
+    private final AsyncCache<Long, CachedUser> byId;
+    private final AsyncCache<String, CachedUser> byUsername;
+
+    public UserDirectory(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.byId = CaffeineCacheMetrics.monitor(meterRegistry, build(properties), "users.by-id");
+        this.byUsername = CaffeineCacheMetrics.monitor(meterRegistry, build(properties), "users.by-username");
+    }
+
+    public Optional<CachedUser> findById(Long id) {
+        return Optional.ofNullable(lookup(byId, id, userRepository::findById));
+    }
+
+    public Optional<CachedUser> findByUsername(String username) {
+        return Optional.ofNullable(lookup(byUsername, username, userRepository::findByUsername));
+    }
+
+    /** Looks up several users, loading the ones not cached in one query; unknown ids are absent. */
+    public Map<Long, CachedUser> findAllById(Collection<Long> ids) {
+        return await(byId.getAll(ids, (missing, executor) -> {
+            Map<Long, CachedUser> loaded = new HashMap<>();
+            userRepository.findAllById(List.copyOf(missing)).forEach(user -> loaded.put(user.getId(), CachedUser.of(user)));
+            return CompletableFuture.completedFuture(loaded);
+        }));
+    }
+
+    /** Drops the user under both keys once the current transaction, if any, commits. */
+    public void evict(Long id, String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id, username);
+                }
+            });
+        } else {
+            evictNow(id, username);
+        }
+    }
+
+    private void evictNow(Long id, String username) {
+        byId.synchronous().invalidate(id);
+        byUsername.synchronous().invalidate(username);
+    }
+
+    /** Loads a miss outside Caffeine's per-key lock, so the query never pins a virtual thread's carrier. */
+    private static <K> CachedUser lookup(AsyncCache<K, CachedUser> cache, K key, Function<K, Optional<User>> loader) {
+        CompletableFuture<CachedUser> ours = new CompletableFuture<>();
+        CompletableFuture<CachedUser> entry = cache.get(key, (k, executor) -> ours);
+        if (entry == ours) {
+            try {
+                ours.complete(loader.apply(key).map(CachedUser::of).orElse(null));
+            } catch (RuntimeException e) {
+                ours.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return await(entry);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private static <K> AsyncCache<K, CachedUser> build(UserCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    public record CachedUser(Long id, String username, String email, String password, String fullName, Role role,
+                             boolean active, int tokenEpoch, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static CachedUser of(User user) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getEmail(), user.getPassword(),
+                    user.getFullName(), user.getRole(), user.isActive(), user.getTokenEpoch(), user.getCreatedAt(), user.getUpdatedAt());
+        }
+
+        public User toEntity() {
+            return User.builder()
+                    .id(id)
+                    .username(username)
+                    .email(email)
+                    .password(password)
+                    .fullName(fullName)
+                    .role(role)
+                    .active(active)
+                    .tokenEpoch(tokenEpoch)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
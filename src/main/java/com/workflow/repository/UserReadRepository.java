@@ -0,0 +1,91 @@
+package com.workflow.repository;
+
+import com.workflow.dto.response.UserResponse;
+import com.workflow.enums.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/** Read side for users: the {@link UserResponse} columns, mapped without a persistence context. */
+@Repository
+@RequiredArgsConstructor
+public class UserReadRepository {
+
+    private static final String SELECT_USERS = "SELECT " + columns("u", "") + " FROM users u ";
+    private static final String KEYSET_AFTER = "(u.created_at < :createdAt OR (u.created_at = :createdAt AND u.id < :id))";
+    private static final String KEYSET_ORDER = " ORDER BY u.created_at DESC, u.id DESC";
+    private static final RowMapper<UserResponse> ROW_MAPPER = (rs, rowNum) -> map(rs, "");
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public Optional<UserResponse> findById(Long id) {
+        return jdbc.query(SELECT_USERS + "WHERE u.id = :id", new MapSqlParameterSource("id", id), ROW_MAPPER)
+                .stream().findFirst();
+    }
+
+    public Optional<UserResponse> findByUsername(String username) {
+        return jdbc.query(SELECT_USERS + "WHERE u.username = :username",
+                new MapSqlParameterSource("username", username), ROW_MAPPER).stream().findFirst();
+    }
+
+    public Optional<Long> findIdByUsername(String username) {
+        return jdbc.queryForList("SELECT u.id FROM users u WHERE u.username = :username",
+                new MapSqlParameterSource("username", username), Long.class).stream().findFirst();
+    }
+
+    public List<UserResponse> findAll() {
+        return jdbc.query(SELECT_USERS + "ORDER BY u.id", ROW_MAPPER);
+    }
+
+    public List<UserResponse> findByRole(Role role) {
+        return jdbc.query(SELECT_USERS + "WHERE u.role = :role ORDER BY u.id",
+                new MapSqlParameterSource("role", role.name()), ROW_MAPPER);
+    }
+
+    public List<UserResponse> findAfter(LocalDateTime createdAt, Long id, int limit) {
+        return jdbc.query(SELECT_USERS + "WHERE " + KEYSET_AFTER + KEYSET_ORDER + " LIMIT :limit",
+                keyset(createdAt, id, limit), ROW_MAPPER);
+    }
+
+    public List<UserResponse> findByRoleAfter(Role role, LocalDateTime createdAt, Long id, int limit) {
+        return jdbc.query(SELECT_USERS + "WHERE u.role = :role AND " + KEYSET_AFTER + KEYSET_ORDER + " LIMIT :limit",
+                keyset(createdAt, id, limit).addValue("role", role.name()), ROW_MAPPER);
+    }
+
+    /** Select list for a users table aliased {@code alias}, with every column label prefixed by {@code prefix}. */
+    static String columns(String alias, String prefix) {
+        return alias + ".id AS " + prefix + "id, "
+                + alias + ".username AS " + prefix + "username, "
+                + alias + ".email AS " + prefix + "email, "
+                + alias + ".full_name AS " + prefix + "full_name, "
+                + alias + ".role AS " + prefix + "role, "
+                + alias + ".active AS " + prefix + "active, "
+                + alias + ".created_at AS " + prefix + "created_at";
+    }
+
+    static UserResponse map(ResultSet rs, String prefix) throws SQLException {
+        return new UserResponse(
+                rs.getLong(prefix + "id"),
+                rs.getString(prefix + "username"),
+                rs.getString(prefix + "email"),
+                rs.getString(prefix + "full_name"),
+                rs.getString(prefix + "role"),
+                rs.getBoolean(prefix + "active"),
+                rs.getObject(prefix + "created_at", LocalDateTime.class));
+    }
+
+    private static MapSqlParameterSource keyset(LocalDateTime createdAt, Long id, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("createdAt", createdAt)
+                .addValue("id", id)
+                .addValue("limit", limit);
+    }
+}
@@ -0,0 +1,126 @@
+package com.workflow.repository;
+
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.WorkflowStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Write side for bulk creation: one JDBC batch per table per chunk, ids drawn from Hibernate's sequences. */
+@Repository
+public class WorkflowBulkRepository {
+
+    private static final String INSERT_WORKFLOW = """
+            INSERT INTO workflows (id, title, description, status, created_by_id, current_level, total_levels, metadata,
+                                   version, created_at, updated_at)
+            VALUES (:id, :title, :description, :status, :createdById, :currentLevel, :totalLevels, :metadata, 0, :at, :at)
+            """;
+
+    private static final String INSERT_STEP = """
+            INSERT INTO approval_steps (id, workflow_id, approver_id, level, step_name, status, version, created_at, updated_at)
+            VALUES (:id, :workflowId, :approverId, :level, :stepName, 'PENDING', 0, :at, :at)
+            """;
+
+    private static final String INSERT_HISTORY = """
+            INSERT INTO approval_history_outbox (id, workflow_id, actor_id, action, level, comments, from_status, to_status, created_at)
+            VALUES (:id, :workflowId, :actorId, :action, 0, :comments, :fromStatus, :toStatus, :at)
+            """;
+
+    private static final String INSERT_INBOX = """
+            INSERT INTO approver_inbox (workflow_id, approver_id, level, total_levels, step_name, title, requested_by, pending_since)
+            VALUES (:workflowId, :approverId, 1, :totalLevels, :stepName, :title, :requestedBy, :at)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ApprovalHistoryWriter historyWriter;
+    private final PooledSequenceIdAllocator workflowIds;
+    private final PooledSequenceIdAllocator stepIds;
+    private final PooledSequenceIdAllocator historyIds;
+
+    public WorkflowBulkRepository(NamedParameterJdbcTemplate jdbc, ApprovalHistoryWriter historyWriter) {
+        this.jdbc = jdbc;
+        this.historyWriter = historyWriter;
+        this.workflowIds = new PooledSequenceIdAllocator(jdbc.getJdbcOperations(), "workflows_seq", 50);
+        this.stepIds = new PooledSequenceIdAllocator(jdbc.getJdbcOperations(), "approval_steps_seq", 50);
+        this.historyIds = new PooledSequenceIdAllocator(jdbc.getJdbcOperations(), "approval_history_seq", 50);
+    }
+
+    /**
+     * Inserts the workflows, created by {@code creator}, in the caller's transaction.
+     *
+     * @param workflows steps already ordered by level, levels sequential from 1
+     * @return the new ids, in the order of {@code workflows}
+     */
+    public List<Long> insertAll(List<NewWorkflow> workflows, Creator creator, boolean submit, LocalDateTime at) {
+        List<Long> ids = new ArrayList<>(workflows.size());
+        List<SqlParameterSource> workflowRows = new ArrayList<>(workflows.size());
+        List<SqlParameterSource> stepRows = new ArrayList<>();
+        List<SqlParameterSource> historyRows = new ArrayList<>();
+        List<SqlParameterSource> inboxRows = new ArrayList<>();
+
+        for (NewWorkflow workflow : workflows) {
+            long id = workflowIds.nextId();
+            ids.add(id);
+            workflowRows.add(new MapSqlParameterSource()
+                    .addValue("id", id)
+                    .addValue("title", workflow.title())
+                    .addValue("description", workflow.description(), Types.VARCHAR)
+                    .addValue("status", (submit ? WorkflowStatus.IN_PROGRESS : WorkflowStatus.DRAFT).name())
+                    .addValue("createdById", creator.id())
+                    .addValue("currentLevel", submit ? 1 : 0)
+                    .addValue("totalLevels", workflow.steps().size())
+                    .addValue("metadata", workflow.metadata(), Types.VARCHAR)
+                    .addValue("at", at));
+            for (NewStep step : workflow.steps()) {
+                stepRows.add(new MapSqlParameterSource()
+                        .addValue("id", stepIds.nextId())
+                        .addValue("workflowId", id)
+                        .addValue("approverId", step.approverId())
+                        .addValue("level", step.level())
+                        .addValue("stepName", step.stepName())
+                        .addValue("at", at));
+            }
+            if (submit) {
+                NewStep first = workflow.steps().get(0);
+                historyRows.add(new MapSqlParameterSource()
+                        .addValue("id", historyIds.nextId())
+                        .addValue("workflowId", id)
+                        .addValue("actorId", creator.id())
+                        .addValue("action", ApprovalAction.APPROVE.name())
+                        .addValue("comments", "Workflow submitted for approval")
+                        .addValue("fromStatus", WorkflowStatus.DRAFT.name())
+                        .addValue("toStatus", WorkflowStatus.IN_PROGRESS.name())
+                        .addValue("at", at));
+                inboxRows.add(new MapSqlParameterSource()
+                        .addValue("workflowId", id)
+                        .addValue("approverId", first.approverId())
+                        .addValue("totalLevels", workflow.steps().size())
+                        .addValue("stepName", first.stepName())
+                        .addValue("title", workflow.title())
+                        .addValue("requestedBy", creator.username())
+                        .addValue("at", at));
+            }
+        }
+
+        jdbc.batchUpdate(INSERT_WORKFLOW, workflowRows.toArray(SqlParameterSource[]::new));
+        jdbc.batchUpdate(INSERT_STEP, stepRows.toArray(SqlParameterSource[]::new));
+        if (submit) {
+            jdbc.batchUpdate(INSERT_HISTORY, historyRows.toArray(SqlParameterSource[]::new));
+            jdbc.batchUpdate(INSERT_INBOX, inboxRows.toArray(SqlParameterSource[]::new));
+            historyWriter.flushAfterCommit();
+        }
+        return ids;
+    }
+
+    public record Creator(Long id, String username) {}
+
+    public record NewWorkflow(String title, String description, String metadata, List<NewStep> steps) {}
+
+    public record NewStep(Long approverId, int level, String stepName) {}
+}
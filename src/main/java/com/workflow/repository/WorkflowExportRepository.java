@@ -0,0 +1,108 @@
+package com.workflow.repository;
+
+import com.workflow.config.ExportProperties;
+import com.workflow.dto.request.ExportFilter;
+import com.workflow.dto.response.HistoryExportEntry;
+import com.workflow.dto.response.WorkflowResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** Streams workflows and history for the admin exports, {@code fetch-size} rows at a time; call in a transaction. */
+@Repository
+public class WorkflowExportRepository {
+
+    // Rows arrive grouped by workflow, which is emitted when the next one starts
+    private static final String SELECT_WORKFLOWS = """
+            SELECT %s, %s
+            FROM workflows w
+            JOIN users c ON c.id = w.created_by_id
+            LEFT JOIN approval_steps s ON s.workflow_id = w.id
+            LEFT JOIN users a ON a.id = s.approver_id
+            WHERE %%s
+            ORDER BY w.created_at, w.id, s.level
+            """.formatted(WorkflowReadRepository.WORKFLOW_COLUMNS, WorkflowReadRepository.stepColumns("s_"));
+
+    // History and the rows still in its outbox
+    private static final String SELECT_HISTORY = """
+            SELECT h.workflow_id, h.id, h.action, h.level, h.comments, h.from_status, h.to_status, h.created_at, %s
+            FROM (
+                SELECT workflow_id, id, actor_id, action, level, comments, from_status, to_status, created_at
+                FROM approval_history
+                WHERE %%1$s
+                UNION ALL
+                SELECT workflow_id, id, actor_id, action, level, comments, from_status, to_status, created_at
+                FROM approval_history_outbox
+                WHERE %%1$s
+            ) h
+            JOIN workflows w ON w.id = h.workflow_id
+            JOIN users u ON u.id = h.actor_id
+            WHERE %%2$s
+            ORDER BY h.created_at, h.id
+            """.formatted(UserReadRepository.columns("u", "u_"));
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public WorkflowExportRepository(DataSource dataSource, ExportProperties properties) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(properties.getFetchSize());
+        this.jdbc = new NamedParameterJdbcTemplate(template);
+    }
+
+    /** Workflows with creator and steps, oldest first. */
+    public void streamWorkflows(ExportFilter filter, Consumer<WorkflowResponse> sink) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = where(filter, "w.status", "w.created_at", params);
+        WorkflowResponse[] current = new WorkflowResponse[1];
+        jdbc.query(SELECT_WORKFLOWS.formatted(where), params, rs -> {
+            long id = rs.getLong("id");
+            if (current[0] == null || current[0].id() != id) {
+                if (current[0] != null) {
+                    sink.accept(current[0]);
+                }
+                current[0] = WorkflowReadRepository.mapWorkflow(rs);
+            }
+            if (rs.getObject("s_id") != null) {
+                current[0].approvalSteps().add(WorkflowReadRepository.mapStep(rs, "s_"));
+            }
+        });
+        if (current[0] != null) {
+            sink.accept(current[0]);
+        }
+    }
+
+    /** History entries of all workflows, oldest first; {@code status} is the workflow's current status. */
+    public void streamHistory(ExportFilter filter, Consumer<HistoryExportEntry> sink) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String created = where(new ExportFilter(null, filter.from(), filter.to()), null, "created_at", params);
+        String status = where(new ExportFilter(filter.status(), null, null), "w.status", null, params);
+        jdbc.query(SELECT_HISTORY.formatted(created, status), params, rs -> {
+            sink.accept(new HistoryExportEntry(rs.getLong("workflow_id"),
+                    WorkflowReadRepository.HISTORY_MAPPER.mapRow(rs, 0)));
+        });
+    }
+
+    private static String where(ExportFilter filter, String statusColumn, String createdAtColumn,
+                                MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.status() != null) {
+            conditions.add(statusColumn + " = :status");
+            params.addValue("status", filter.status().name());
+        }
+        if (filter.from() != null) {
+            conditions.add(createdAtColumn + " >= :from");
+            params.addValue("from", filter.from());
+        }
+        if (filter.to() != null) {
+            conditions.add(createdAtColumn + " < :to");
+            params.addValue("to", filter.to());
+        }
+        return conditions.isEmpty() ? "1 = 1" : String.join(" AND ", conditions);
+    }
+}
@@ -0,0 +1,294 @@
+package com.workflow.repository;
+
+import com.workflow.dto.request.WorkflowField;
+import com.workflow.dto.response.ApprovalHistoryResponse;
+import com.workflow.dto.response.ApprovalStepResponse;
+import com.workflow.dto.response.WorkflowResponse;
+import com.workflow.dto.response.WorkflowSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** Read side for workflows: JDBC rows mapped straight into the response records. */
+@Repository
+@RequiredArgsConstructor
+public class WorkflowReadRepository {
+
+    /** Workflow columns for {@code workflows w JOIN users c} (creator), as read by {@link #mapWorkflow}. */
+    static final String WORKFLOW_COLUMNS = """
+            w.id, w.title, w.description, w.status, w.current_level, w.total_levels, w.metadata,
+            w.created_at, w.updated_at, %s""".formatted(UserReadRepository.columns("c", "c_"));
+
+    private static final String SELECT_WORKFLOWS = """
+            SELECT %s, w.version
+            FROM workflows w
+            JOIN users c ON c.id = w.created_by_id
+            WHERE w.id IN (:ids)
+            """.formatted(WORKFLOW_COLUMNS);
+
+    // What each summary field reads; the creator is joined only when asked for
+    private static final Map<WorkflowField, String> SUMMARY_COLUMNS = new EnumMap<>(Map.of(
+            WorkflowField.TITLE, "w.title",
+            WorkflowField.DESCRIPTION, "w.description",
+            WorkflowField.STATUS, "w.status",
+            WorkflowField.CURRENT_LEVEL, "w.current_level",
+            WorkflowField.TOTAL_LEVELS, "w.total_levels",
+            WorkflowField.METADATA, "w.metadata",
+            WorkflowField.CREATED_BY, "c.username AS c_username",
+            WorkflowField.CREATED_BY_NAME, "c.full_name AS c_full_name",
+            WorkflowField.UPDATED_AT, "w.updated_at"));
+
+    private static final String SELECT_STEPS = """
+            SELECT s.workflow_id, %s
+            FROM approval_steps s
+            JOIN users a ON a.id = s.approver_id
+            WHERE s.workflow_id IN (:ids)
+            ORDER BY s.workflow_id, s.level
+            """.formatted(stepColumns(""));
+
+    // History and the rows still in its outbox, bounded by the workflow's creation to prune partitions
+    private static final String SELECT_HISTORY = """
+            SELECT h.id, h.action, h.level, h.comments, h.from_status, h.to_status, h.created_at, %s
+            FROM (
+                SELECT id, actor_id, action, level, comments, from_status, to_status, created_at
+                FROM approval_history
+                WHERE workflow_id = :workflowId
+                  AND created_at >= COALESCE((SELECT w.created_at FROM workflows w WHERE w.id = :workflowId),
+                                             TIMESTAMP '1970-01-01 00:00:00')
+                UNION ALL
+                SELECT id, actor_id, action, level, comments, from_status, to_status, created_at
+                FROM approval_history_outbox
+                WHERE workflow_id = :workflowId
+            ) h
+            JOIN users u ON u.id = h.actor_id
+            ORDER BY h.created_at DESC, h.id DESC
+            """.formatted(UserReadRepository.columns("u", "u_"));
+
+    static final RowMapper<ApprovalHistoryResponse> HISTORY_MAPPER = (rs, rowNum) -> new ApprovalHistoryResponse(
+            rs.getLong("id"),
+            UserReadRepository.map(rs, "u_"),
+            rs.getString("action"),
+            rs.getInt("level"),
+            rs.getString("comments"),
+            rs.getString("from_status"),
+            rs.getString("to_status"),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    // The version and history change with every transition; the users' updates cover what responses embed of them
+    private static final String SELECT_TAG = """
+            SELECT w.version,
+                   (SELECT c.updated_at FROM users c WHERE c.id = w.created_by_id) AS creator_updated_at,
+                   (SELECT MAX((SELECT a.updated_at FROM users a WHERE a.id = s.approver_id))
+                    FROM approval_steps s WHERE s.workflow_id = w.id) AS approvers_updated_at
+            FROM workflows w
+            WHERE w.id = :id
+            """;
+
+    // The current step and the one after it, both by the unique (workflow_id, level) index
+    private static final String SELECT_APPROVAL_STATES = """
+            SELECT w.id, w.title, w.created_by_id, w.status, w.current_level, w.total_levels, w.version,
+                   cur.approver_id, nxt.approver_id AS next_approver_id, nxt.step_name AS next_step_name
+            FROM workflows w
+            LEFT JOIN approval_steps cur ON cur.workflow_id = w.id AND cur.level = w.current_level
+            LEFT JOIN approval_steps nxt ON nxt.workflow_id = w.id AND nxt.level = w.current_level + 1
+            WHERE w.id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public Optional<WorkflowResponse> findById(Long id) {
+        return findAllById(List.of(id)).stream().findFirst();
+    }
+
+    /** The workflow as a transition sees it: the response it will patch and the version its update expects. */
+    public Optional<WorkflowSnapshot> findSnapshot(Long id) {
+        Map<Long, Long> versions = new HashMap<>();
+        return load(List.of(id), versions).stream()
+                .findFirst()
+                .map(workflow -> new WorkflowSnapshot(workflow, versions.get(id)));
+    }
+
+    /** Loads the given workflows with creator and steps, in the order of {@code ids}; unknown ids are skipped. */
+    public List<WorkflowResponse> findAllById(Collection<Long> ids) {
+        return load(ids, new HashMap<>());
+    }
+
+    private List<WorkflowResponse> load(Collection<Long> ids, Map<Long, Long> versions) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+
+        Map<Long, WorkflowResponse> workflows = new HashMap<>();
+        jdbc.query(SELECT_WORKFLOWS, params, rs -> {
+            long id = rs.getLong("id");
+            versions.put(id, rs.getLong("version"));
+            workflows.put(id, mapWorkflow(rs));
+        });
+        if (workflows.isEmpty()) {
+            return List.of();
+        }
+
+        jdbc.query(SELECT_STEPS, params, rs -> {
+            WorkflowResponse workflow = workflows.get(rs.getLong("workflow_id"));
+            if (workflow != null) {
+                workflow.approvalSteps().add(mapStep(rs, ""));
+            }
+        });
+
+        return ids.stream()
+                .map(workflows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /** Summaries with only {@code fields} set, with their creation times, in the order of {@code ids}. */
+    public List<SummaryRow> findSummaries(Collection<Long> ids, Set<WorkflowField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        boolean withCreator = fields.contains(WorkflowField.CREATED_BY) || fields.contains(WorkflowField.CREATED_BY_NAME);
+        String columns = fields.stream()
+                .map(SUMMARY_COLUMNS::get)
+                .filter(Objects::nonNull)
+                .map(column -> ", " + column)
+                .collect(Collectors.joining());
+        String sql = "SELECT w.id, w.created_at" + columns + " FROM workflows w"
+                + (withCreator ? " JOIN users c ON c.id = w.created_by_id" : "")
+                + " WHERE w.id IN (:ids)";
+
+        Map<Long, SummaryRow> rows = new HashMap<>();
+        jdbc.query(sql, new MapSqlParameterSource("ids", ids), rs -> {
+            SummaryRow row = mapSummary(rs, fields);
+            rows.put(row.summary().id(), row);
+        });
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static SummaryRow mapSummary(ResultSet rs, Set<WorkflowField> fields) throws SQLException {
+        LocalDateTime createdAt = rs.getObject("created_at", LocalDateTime.class);
+        return new SummaryRow(new WorkflowSummary(
+                rs.getLong("id"),
+                fields.contains(WorkflowField.TITLE) ? rs.getString("title") : null,
+                fields.contains(WorkflowField.DESCRIPTION) ? rs.getString("description") : null,
+                fields.contains(WorkflowField.STATUS) ? rs.getString("status") : null,
+                fields.contains(WorkflowField.CURRENT_LEVEL) ? rs.getInt("current_level") : null,
+                fields.contains(WorkflowField.TOTAL_LEVELS) ? rs.getInt("total_levels") : null,
+                fields.contains(WorkflowField.METADATA) ? rs.getString("metadata") : null,
+                fields.contains(WorkflowField.CREATED_BY) ? rs.getString("c_username") : null,
+                fields.contains(WorkflowField.CREATED_BY_NAME) ? rs.getString("c_full_name") : null,
+                fields.contains(WorkflowField.CREATED_AT) ? createdAt : null,
+                fields.contains(WorkflowField.UPDATED_AT) ? rs.getObject("updated_at", LocalDateTime.class) : null),
+                createdAt);
+    }
+
+    /** A tag that changes whenever the workflow's response or history does; empty for an unknown workflow. */
+    public Optional<String> findTag(Long id) {
+        return jdbc.query(SELECT_TAG, new MapSqlParameterSource("id", id), (rs, rowNum) -> {
+            long usersStamp = Math.max(micros(rs.getObject("creator_updated_at", LocalDateTime.class)),
+                    micros(rs.getObject("approvers_updated_at", LocalDateTime.class)));
+            return rs.getLong("version") + "." + Long.toString(usersStamp, 36);
+        }).stream().findFirst();
+    }
+
+    private static long micros(LocalDateTime at) {
+        return at == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, at.toInstant(ZoneOffset.UTC));
+    }
+
+    public List<ApprovalHistoryResponse> findHistory(Long workflowId) {
+        return jdbc.query(SELECT_HISTORY, new MapSqlParameterSource("workflowId", workflowId), HISTORY_MAPPER);
+    }
+
+    /** What an approval needs to know about each workflow, in one query; unknown ids are absent. */
+    public Map<Long, ApprovalState> findApprovalStates(Collection<Long> ids) {
+        Map<Long, ApprovalState> states = new HashMap<>();
+        if (ids.isEmpty()) {
+            return states;
+        }
+        jdbc.query(SELECT_APPROVAL_STATES, new MapSqlParameterSource("ids", ids), rs -> {
+            states.put(rs.getLong("id"), new ApprovalState(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getLong("created_by_id"),
+                    rs.getString("status"),
+                    rs.getInt("current_level"),
+                    rs.getInt("total_levels"),
+                    rs.getLong("version"),
+                    rs.getObject("approver_id", Long.class),
+                    rs.getObject("next_approver_id", Long.class),
+                    rs.getString("next_step_name")));
+        });
+        return states;
+    }
+
+    public boolean existsById(Long id) {
+        return !jdbc.queryForList("SELECT 1 FROM workflows WHERE id = :id",
+                new MapSqlParameterSource("id", id), Integer.class).isEmpty();
+    }
+
+    /** Maps a row selected with {@link #WORKFLOW_COLUMNS}; steps are left for the caller to add. */
+    static WorkflowResponse mapWorkflow(ResultSet rs) throws SQLException {
+        return new WorkflowResponse(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getString("status"),
+                UserReadRepository.map(rs, "c_"),
+                rs.getInt("current_level"),
+                rs.getInt("total_levels"),
+                rs.getString("metadata"),
+                new ArrayList<>(),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    /** Step columns for {@code approval_steps s JOIN users a} (approver), labels prefixed by {@code prefix}. */
+    static String stepColumns(String prefix) {
+        return "s.id AS " + prefix + "id, s.level AS " + prefix + "level, s.step_name AS " + prefix + "step_name, "
+                + "s.status AS " + prefix + "status, s.comments AS " + prefix + "comments, "
+                + "s.acted_at AS " + prefix + "acted_at, s.created_at AS " + prefix + "created_at, "
+                + UserReadRepository.columns("a", "a_");
+    }
+
+    static ApprovalStepResponse mapStep(ResultSet rs, String prefix) throws SQLException {
+        return new ApprovalStepResponse(
+                rs.getLong(prefix + "id"),
+                UserReadRepository.map(rs, "a_"),
+                rs.getInt(prefix + "level"),
+                rs.getString(prefix + "step_name"),
+                rs.getString(prefix + "status"),
+                rs.getString(prefix + "comments"),
+                rs.getObject(prefix + "acted_at", LocalDateTime.class),
+                rs.getObject(prefix + "created_at", LocalDateTime.class));
+    }
+
+    public record WorkflowSnapshot(WorkflowResponse workflow, long version) {}
+
+    public record SummaryRow(WorkflowSummary summary, LocalDateTime createdAt) {}
+
+    /** {@code approverId} is null if the current level has no step; the next-step fields if there is no next level. */
+    public record ApprovalState(Long id, String title, Long createdById, String status, int currentLevel, int totalLevels, long version,
+                                Long approverId, Long nextApproverId, String nextStepName) {}
+}
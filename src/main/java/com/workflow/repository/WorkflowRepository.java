@@ -2,27 +2,58 @@ package com.workflow.repository;
 
 import com.workflow.entity.Workflow;
 import com.workflow.enums.WorkflowStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+/** Pages over workflow ids, loaded through {@link WorkflowReadRepository}; {@code *After} variants are keyset pages. */
 @Repository
 public interface WorkflowRepository extends JpaRepository<Workflow, Long> {
 
-    Page<Workflow> findByCreatedById(Long userId, Pageable pageable);
+    /** Keyset predicate for "rows after cursor (createdAt, id)" in {@link #KEYSET_ORDER}. */
+    String KEYSET_AFTER = "(w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id))";
+    String KEYSET_ORDER = " ORDER BY w.createdAt DESC, w.id DESC";
 
-    Page<Workflow> findByStatus(WorkflowStatus status, Pageable pageable);
+    @Query("SELECT w.id FROM Workflow w")
+    Page<Long> findIds(Pageable pageable);
+
+    @Query("SELECT w.id FROM Workflow w WHERE w.createdBy.id = :userId")
+    Page<Long> findIdsByCreatedById(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT w.id FROM Workflow w WHERE w.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") WorkflowStatus status, Pageable pageable);
+
+    @Query("SELECT w.id FROM Workflow w WHERE " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Long> findIdsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT w.id FROM Workflow w WHERE w.createdBy.id = :userId AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Long> findIdsByCreatedByIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Limit limit);
+
+    @Query("SELECT w.id FROM Workflow w WHERE w.status = :status AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Long> findIdsByStatusAfter(@Param("status") WorkflowStatus status, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Limit limit);
+
+    @Query("SELECT COUNT(w) FROM Workflow w WHERE w.createdBy.id = :userId")
+    long countByCreatedById(@Param("userId") Long userId);
+
+    long countByStatus(WorkflowStatus status);
+
+    @EntityGraph(Workflow.DETAIL_GRAPH)
+    @Query("SELECT w FROM Workflow w WHERE w.id = :id")
+    Optional<Workflow> findDetailedById(@Param("id") Long id);
 
     @Query("SELECT w FROM Workflow w JOIN w.approvalSteps s WHERE s.approver.id = :approverId")
     Page<Workflow> findByApproverId(@Param("approverId") Long approverId, Pageable pageable);
 
-    @Query("SELECT w FROM Workflow w JOIN w.approvalSteps s WHERE s.approver.id = :approverId AND s.level = w.currentLevel AND w.status = 'IN_PROGRESS'")
-    List<Workflow> findPendingWorkflowsForApprover(@Param("approverId") Long approverId);
-
     List<Workflow> findByStatusIn(List<WorkflowStatus> statuses);
 }
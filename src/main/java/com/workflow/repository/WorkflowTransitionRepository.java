@@ -0,0 +1,223 @@
+package com.workflow.repository;
+
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.WorkflowStatus;
+import lombok.Builder;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Write side for workflow transitions: a version-guarded UPDATE of the workflow, then, if it matched,
+ * the step, history outbox, change stamp and inbox changes in one statement.
+ */
+@Repository
+public class WorkflowTransitionRepository {
+
+    private static final String UPDATE_WORKFLOW = """
+            UPDATE workflows
+            SET status = :toStatus, current_level = :toLevel, version = version + 1, updated_at = :at
+            WHERE id = :workflowId AND status = :fromStatus AND current_level = :fromLevel AND version = :version;
+            """;
+
+    private static final String UPDATE_STEP = """
+            UPDATE approval_steps
+            SET status = :stepStatus, comments = :stepComments, acted_at = :at, updated_at = :at, version = version + 1
+            WHERE workflow_id = :workflowId AND level = :stepLevel;
+            """;
+
+    // Into the outbox: ApprovalHistoryWriter moves committed rows into approval_history in batches
+    private static final String INSERT_HISTORY = """
+            INSERT INTO approval_history_outbox (id, workflow_id, actor_id, action, level, comments, from_status, to_status, created_at)
+            SELECT :historyId, id, :actorId, :action, :historyLevel, :historyComments, :fromStatus, :toStatus, :at
+            FROM workflows WHERE id = :workflowId;
+            """;
+
+    // Before the inbox change, while the approver losing the entry is still the one holding it
+    private static final String BUMP_CHANGE_STAMPS = """
+            UPDATE users SET change_stamp = change_stamp + 1
+            WHERE (id = (SELECT created_by_id FROM workflows WHERE id = :workflowId)
+                   OR id = (SELECT approver_id FROM approver_inbox WHERE workflow_id = :workflowId)
+                   OR id = :inboxApproverId);
+            """;
+
+    // Batched form: each user is bumped once however many of the transitions concern them
+    private static final String BUMP_CHANGE_STAMPS_ALL = """
+            UPDATE users SET change_stamp = change_stamp + 1
+            WHERE id IN (SELECT created_by_id FROM workflows WHERE id IN (:workflowIds))
+               OR id IN (SELECT approver_id FROM approver_inbox WHERE workflow_id IN (:workflowIds))
+               OR id IN (:approverIds)
+            """;
+
+    private static final String INSERT_INBOX = """
+            INSERT INTO approver_inbox (workflow_id, approver_id, level, total_levels, step_name, title, requested_by, pending_since)
+            SELECT id, :inboxApproverId, current_level, total_levels, :inboxStepName, title, :requestedBy, :at
+            FROM workflows WHERE id = :workflowId;
+            """;
+
+    private static final String MOVE_INBOX = """
+            UPDATE approver_inbox
+            SET approver_id = :inboxApproverId, level = :toLevel, step_name = :inboxStepName, pending_since = :at
+            WHERE workflow_id = :workflowId;
+            """;
+
+    private static final String DELETE_INBOX = "DELETE FROM approver_inbox WHERE workflow_id = :workflowId;";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final PooledSequenceIdAllocator historyIds;
+    private final ApprovalHistoryWriter historyWriter;
+
+    public WorkflowTransitionRepository(NamedParameterJdbcTemplate jdbc, ApprovalHistoryWriter historyWriter) {
+        this.jdbc = jdbc;
+        this.historyWriter = historyWriter;
+        this.historyIds = new PooledSequenceIdAllocator(jdbc.getJdbcOperations(), "approval_history_seq", 50);
+    }
+
+    /** @return false when the workflow no longer matched the expected state and nothing was written */
+    public boolean apply(Transition transition) {
+        MapSqlParameterSource params = params(transition);
+        if (jdbc.update(UPDATE_WORKFLOW, params) != 1) {
+            return false;
+        }
+        // The workflow row is now locked by this transaction until it ends
+        StringBuilder sql = new StringBuilder();
+        if (transition.stepStatus() != null) {
+            sql.append(UPDATE_STEP);
+        }
+        sql.append(INSERT_HISTORY);
+        sql.append(BUMP_CHANGE_STAMPS);
+        sql.append(inboxStatement(transition.inbox()));
+        jdbc.update(sql.toString(), params);
+        historyWriter.flushAfterCommit();
+        return true;
+    }
+
+    /**
+     * Applies many transitions with one JDBC batch per statement; a guard miss only drops that transition.
+     *
+     * @return per transition, in order, whether it was applied
+     */
+    public boolean[] applyAll(List<Transition> transitions) {
+        // Locked in workflow id order, so overlapping batches wait on each other instead of deadlocking
+        int[] order = IntStream.range(0, transitions.size()).boxed()
+                .sorted(Comparator.comparing(index -> transitions.get(index).workflowId()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        MapSqlParameterSource[] params = Arrays.stream(order)
+                .mapToObj(index -> params(transitions.get(index)))
+                .toArray(MapSqlParameterSource[]::new);
+        int[] updated = jdbc.batchUpdate(UPDATE_WORKFLOW, params);
+
+        boolean[] applied = new boolean[transitions.size()];
+        List<MapSqlParameterSource> steps = new ArrayList<>();
+        List<MapSqlParameterSource> history = new ArrayList<>();
+        Set<Long> workflowIds = new HashSet<>();
+        Set<Long> approverIds = new HashSet<>();
+        Map<InboxChange, List<MapSqlParameterSource>> inbox = new EnumMap<>(InboxChange.class);
+        for (int i = 0; i < order.length; i++) {
+            if (updated[i] != 1) {
+                continue;
+            }
+            applied[order[i]] = true;
+            Transition transition = transitions.get(order[i]);
+            if (transition.stepStatus() != null) {
+                steps.add(params[i]);
+            }
+            history.add(params[i]);
+            workflowIds.add(transition.workflowId());
+            if (transition.inbox() != InboxChange.REMOVE) {
+                approverIds.add(transition.inboxApproverId());
+            }
+            inbox.computeIfAbsent(transition.inbox(), change -> new ArrayList<>()).add(params[i]);
+        }
+
+        if (!steps.isEmpty()) {
+            jdbc.batchUpdate(UPDATE_STEP, steps.toArray(SqlParameterSource[]::new));
+        }
+        if (!history.isEmpty()) {
+            jdbc.batchUpdate(INSERT_HISTORY, history.toArray(SqlParameterSource[]::new));
+            historyWriter.flushAfterCommit();
+            jdbc.update(BUMP_CHANGE_STAMPS_ALL, new MapSqlParameterSource()
+                    .addValue("workflowIds", workflowIds)
+                    // IN () is not valid SQL, and no user has id 0
+                    .addValue("approverIds", approverIds.isEmpty() ? Set.of(0L) : approverIds));
+        }
+        inbox.forEach((change, rows) -> jdbc.batchUpdate(inboxStatement(change), rows.toArray(SqlParameterSource[]::new)));
+        return applied;
+    }
+
+    private static String inboxStatement(InboxChange change) {
+        return switch (change) {
+            case ADD -> INSERT_INBOX;
+            case MOVE -> MOVE_INBOX;
+            case REMOVE -> DELETE_INBOX;
+        };
+    }
+
+    private MapSqlParameterSource params(Transition transition) {
+        return new MapSqlParameterSource()
+                .addValue("workflowId", transition.workflowId())
+                .addValue("version", transition.version())
+                .addValue("fromStatus", transition.fromStatus().name())
+                .addValue("fromLevel", transition.fromLevel())
+                .addValue("toStatus", transition.toStatus().name())
+                .addValue("toLevel", transition.toLevel())
+                .addValue("at", transition.at())
+                .addValue("stepLevel", transition.stepLevel())
+                .addValue("stepStatus", transition.stepStatus() != null ? transition.stepStatus().name() : null, Types.VARCHAR)
+                .addValue("stepComments", transition.stepComments(), Types.VARCHAR)
+                .addValue("historyId", historyIds.nextId())
+                .addValue("actorId", transition.actorId())
+                .addValue("action", transition.action().name())
+                .addValue("historyLevel", transition.historyLevel())
+                .addValue("historyComments", transition.historyComments(), Types.VARCHAR)
+                .addValue("inboxApproverId", transition.inboxApproverId(), Types.BIGINT)
+                .addValue("inboxStepName", transition.inboxStepName(), Types.VARCHAR)
+                .addValue("requestedBy", transition.requestedBy(), Types.VARCHAR);
+    }
+
+    public enum InboxChange {
+        /** The workflow enters its first level: create the entry for that level's approver. */
+        ADD,
+        /** The workflow moves to another level: hand the entry to that level's approver. */
+        MOVE,
+        /** The workflow leaves IN_PROGRESS. */
+        REMOVE
+    }
+
+    /** One state change of a workflow; {@code stepStatus} is null when no step is acted on. */
+    @Builder
+    public record Transition(
+            Long workflowId,
+            long version,
+            WorkflowStatus fromStatus,
+            int fromLevel,
+            WorkflowStatus toStatus,
+            int toLevel,
+            int stepLevel,
+            WorkflowStatus stepStatus,
+            String stepComments,
+            Long actorId,
+            ApprovalAction action,
+            int historyLevel,
+            String historyComments,
+            InboxChange inbox,
+            Long inboxApproverId,
+            String inboxStepName,
+            String requestedBy,
+            LocalDateTime at
+    ) {}
+}
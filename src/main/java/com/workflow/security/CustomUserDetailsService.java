@@ -1,14 +1,15 @@
 package com.workflow.security;
 
-import com.workflow.entity.User;
-import com.workflow.repository.UserRepository;
+import com.workflow.concurrency.Bulkhead;
+import com.workflow.concurrency.Workload;
+import com.workflow.repository.UserDirectory;
+import com.workflow.repository.UserDirectory.CachedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,22 +17,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
 
     @Override
-    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        CachedUser user = userDirectory.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
         return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())))
+                .username(user.username())
+                .password(user.password())
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_" + user.role().name())))
                 .accountExpired(false)
-                .accountLocked(!user.isActive())
+                .accountLocked(!user.active())
                 .credentialsExpired(false)
-                .disabled(!user.isActive())
+                .disabled(!user.active())
                 .build();
     }
 }
@@ -0,0 +1,52 @@
+package com.workflow.security;
+
+import com.workflow.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/** The caller as described by a verified token's claims. */
+public record JwtPrincipal(Long id, String username, Role role, int tokenEpoch, List<GrantedAuthority> authorities)
+        implements UserDetails {
+
+    public JwtPrincipal(Long id, String username, Role role, int tokenEpoch) {
+        this(id, username, role, tokenEpoch, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -1,72 +1,127 @@
 package com.workflow.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.workflow.config.JwtProperties;
+import com.workflow.enums.Role;
+import com.workflow.repository.UserDirectory;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
+/** Issues and verifies the access tokens, which carry what a {@link JwtPrincipal} needs; verified ones are cached. */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String EPOCH_CLAIM = "ep";
+
     private final JwtProperties jwtProperties;
+    private final UserDirectory userDirectory;
+    private final TokenRevocationRegistry revocations;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Cache<String, Verified> verified;
+
+    public JwtTokenProvider(JwtProperties jwtProperties, UserDirectory userDirectory,
+                            TokenRevocationRegistry revocations, MeterRegistry meterRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.userDirectory = userDirectory;
+        this.revocations = revocations;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecret()));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        Duration ttl = jwtProperties.getVerifiedCache().getTtl();
+        this.verified = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCache().getMaximumSize())
+                .expireAfter(new Expiry<String, Verified>() {
+                    @Override
+                    public long expireAfterCreate(String token, Verified entry, long currentTime) {
+                        long untilExpiry = Duration.between(Instant.now(), entry.expiresAt()).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, ttl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Verified entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
 
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userDetails.getUsername());
+                    @Override
+                    public long expireAfterRead(String token, Verified entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build(), "jwt.verified");
     }
 
-    public String generateTokenFromUsername(String username) {
+    public String generateToken(Long userId, String username, Role role, int tokenEpoch) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.getExpirationMs());
 
         return Jwts.builder()
                 .setSubject(username)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, role.name())
+                .claim(EPOCH_CLAIM, tokenEpoch)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        return parseClaims(token).getSubject();
+    /** The caller the token was issued to, or empty when its signature, expiry or revocation fails. */
+    public Optional<JwtPrincipal> authenticate(String token) {
+        Verified cached = verified.getIfPresent(token);
+        Optional<JwtPrincipal> principal;
+        if (cached != null) {
+            principal = Optional.of(cached.principal());
+        } else {
+            Claims claims = parseClaims(token);
+            if (claims == null) {
+                return Optional.empty();
+            }
+            principal = toPrincipal(claims);
+            principal.ifPresent(p -> verified.put(token, new Verified(p, claims.getExpiration().toInstant())));
+        }
+        return principal.filter(p -> !revocations.isRevoked(p.id(), p.tokenEpoch()));
     }
 
-    public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (MalformedJwtException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("JWT token expired: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("JWT token unsupported: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims string empty: {}", e.getMessage());
+    private Optional<JwtPrincipal> toPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Integer epoch = claims.get(EPOCH_CLAIM, Integer.class);
+        if (userId != null && role != null) {
+            return Optional.of(new JwtPrincipal(userId, claims.getSubject(), Role.valueOf(role), epoch != null ? epoch : 0));
         }
-        return false;
+        // Issued before the claims existed: epoch 0, so any revocation since rejects it
+        return userDirectory.findByUsername(claims.getSubject())
+                .map(user -> new JwtPrincipal(user.id(), user.username(), user.role(), 0));
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            log.debug("JWT token expired: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+        }
+        return null;
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record Verified(JwtPrincipal principal, Instant expiresAt) {
     }
 }
@@ -0,0 +1,89 @@
+package com.workflow.security;
+
+import com.workflow.concurrency.Bulkhead;
+import com.workflow.concurrency.Workload;
+import com.workflow.config.JwtProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory token epochs of the users revoked within the token lifetime; other instances' revocations
+ * are picked up every {@code refresh-interval}.
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry {
+
+    private static final String SELECT_REVOKED_SINCE =
+            "SELECT id, token_epoch, tokens_revoked_at FROM users WHERE tokens_revoked_at > :since";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final Duration tokenLifetime;
+    private final Duration overlap;
+    private final Map<Long, Revocation> revoked = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefresh;
+
+    public TokenRevocationRegistry(NamedParameterJdbcTemplate jdbc, JwtProperties jwtProperties,
+                                   MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.tokenLifetime = Duration.ofMillis(jwtProperties.getExpirationMs());
+        this.overlap = jwtProperties.getRevocation().getOverlap();
+        Gauge.builder("jwt.revocations.tracked", revoked, Map::size).register(meterRegistry);
+    }
+
+    /** Whether a token issued to the user under the given epoch has since been revoked. */
+    public boolean isRevoked(Long userId, int tokenEpoch) {
+        Revocation revocation = revoked.get(userId);
+        return revocation != null && tokenEpoch < revocation.epoch();
+    }
+
+    /** Applies a revocation written by the current transaction once it commits. */
+    public void revoked(Long userId, int epoch, LocalDateTime at) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(userId, epoch, at);
+                }
+            });
+        } else {
+            record(userId, epoch, at);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "#{@jwtProperties.revocation.refreshInterval.toMillis()}")
+    @Bulkhead(Workload.BACKGROUND)
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldestRelevant = now.minus(tokenLifetime);
+        LocalDateTime since = lastRefresh == null ? oldestRelevant : lastRefresh.minus(overlap);
+        jdbc.query(SELECT_REVOKED_SINCE, new MapSqlParameterSource("since", since), rs -> {
+            record(rs.getLong("id"), rs.getInt("token_epoch"), rs.getObject("tokens_revoked_at", LocalDateTime.class));
+        });
+        lastRefresh = now;
+        revoked.values().removeIf(revocation -> revocation.at().isBefore(oldestRelevant));
+    }
+
+    private void record(Long userId, int epoch, LocalDateTime at) {
+        revoked.merge(userId, new Revocation(epoch, at), (current, update) ->
+                update.epoch() > current.epoch() ? update : current);
+    }
+
+    private record Revocation(int epoch, LocalDateTime at) {
+    }
+}
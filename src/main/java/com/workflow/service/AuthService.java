@@ -1,8 +1,12 @@
 package com.workflow.service;
 
 import com.workflow.dto.request.LoginRequest;
+import com.workflow.dto.request.RegisterRequest;
 import com.workflow.dto.response.AuthResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AuthService {
-    AuthResponse login(LoginRequest request);
+    CompletableFuture<AuthResponse> login(LoginRequest request);
+    CompletableFuture<AuthResponse> register(RegisterRequest request);
 }
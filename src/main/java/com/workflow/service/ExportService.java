@@ -0,0 +1,13 @@
+package com.workflow.service;
+
+import com.workflow.dto.request.ExportFilter;
+import org.springframework.util.function.ThrowingSupplier;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    /** {@code output} is opened only once the export is admitted, so the caller can still answer an error. */
+    void exportWorkflows(ExportFilter filter, ThrowingSupplier<OutputStream> output) throws IOException;
+    void exportHistory(ExportFilter filter, ThrowingSupplier<OutputStream> output) throws IOException;
+}
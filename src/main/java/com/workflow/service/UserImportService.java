@@ -0,0 +1,16 @@
+package com.workflow.service;
+
+import com.workflow.dto.response.BulkReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface UserImportService {
+    /** Creates the users of a CSV (with header row) or NDJSON body of {@code RegisterRequest} records. */
+    BulkReport importUsers(InputStream body, Format format) throws IOException;
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+}
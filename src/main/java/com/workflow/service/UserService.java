@@ -1,19 +1,36 @@
 package com.workflow.service;
 
+import com.workflow.dto.request.BulkItem;
+import com.workflow.dto.request.KeysetPageRequest;
 import com.workflow.dto.request.RegisterRequest;
-import com.workflow.dto.response.AuthResponse;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.dto.response.CursorPage;
 import com.workflow.dto.response.UserResponse;
 import com.workflow.entity.User;
+import com.workflow.repository.UserBulkRepository.NewUser;
+import com.workflow.repository.UserBulkRepository.Taken;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface UserService {
-    AuthResponse register(RegisterRequest request);
+    User createUser(RegisterRequest request, String passwordHash);
+    /** The ones among {@code usernames} and {@code emails} that existing users already have. */
+    Taken findTaken(Collection<String> usernames, Collection<String> emails);
+    /** Inserts the users, already checked and hashed, in one transaction and reports each as CREATED by index. */
+    List<BulkItemResult> createUsers(List<BulkItem<NewUser>> users);
     UserResponse getUserById(Long id);
     UserResponse getUserByUsername(String username);
     List<UserResponse> getAllUsers();
     List<UserResponse> getUsersByRole(String role);
+    CursorPage<UserResponse> getAllUsers(KeysetPageRequest page);
+    CursorPage<UserResponse> getUsersByRole(String role, KeysetPageRequest page);
     void deactivateUser(Long id);
+    void revokeTokens(Long id);
+    void upgradePasswordHash(Long id, String username, String currentHash, String newHash);
     User findEntityByUsername(String username);
+    Long findIdByUsername(String username);
     User findEntityById(Long id);
+    Map<Long, User> findEntitiesByIds(Collection<Long> ids);
 }
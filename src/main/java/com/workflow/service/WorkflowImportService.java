@@ -0,0 +1,11 @@
+package com.workflow.service;
+
+import com.workflow.dto.response.BulkReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface WorkflowImportService {
+    /** Creates the workflows of a JSON array of {@code CreateWorkflowRequest}s, read as it streams in. */
+    BulkReport importWorkflows(InputStream json, String creatorUsername, boolean submit) throws IOException;
+}
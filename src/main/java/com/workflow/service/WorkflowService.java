@@ -1,23 +1,52 @@
 package com.workflow.service;
 
 import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.dto.request.BatchApprovalRequest;
+import com.workflow.dto.request.BulkItem;
 import com.workflow.dto.request.CreateWorkflowRequest;
+import com.workflow.dto.request.KeysetPageRequest;
+import com.workflow.dto.request.WorkflowField;
 import com.workflow.dto.response.ApprovalHistoryResponse;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.dto.response.CursorPage;
+import com.workflow.dto.response.InboxItemResponse;
 import com.workflow.dto.response.PageResponse;
 import com.workflow.dto.response.WorkflowResponse;
+import com.workflow.dto.response.WorkflowSummary;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Set;
 
 public interface WorkflowService {
     WorkflowResponse createWorkflow(CreateWorkflowRequest request, String creatorUsername);
+    /** Creates the valid ones among {@code requests} in one transaction and reports each by index. */
+    List<BulkItemResult> createWorkflows(List<BulkItem<CreateWorkflowRequest>> requests, String creatorUsername, boolean submit);
     WorkflowResponse getWorkflowById(Long id);
+    /** A tag that changes whenever {@link #getWorkflowById} or {@link #getWorkflowHistory} would. */
+    String getWorkflowTag(Long id);
+    /** A tag that changes whenever the user's own workflows or pending inbox would. */
+    String getChangeTag(String username);
     PageResponse<WorkflowResponse> getMyWorkflows(String username, Pageable pageable);
     PageResponse<WorkflowResponse> getAllWorkflows(Pageable pageable);
     PageResponse<WorkflowResponse> getWorkflowsByStatus(String status, Pageable pageable);
+    CursorPage<WorkflowResponse> getMyWorkflows(String username, KeysetPageRequest page);
+    CursorPage<WorkflowResponse> getAllWorkflows(KeysetPageRequest page);
+    CursorPage<WorkflowResponse> getWorkflowsByStatus(String status, KeysetPageRequest page);
+    /** The same pages as the full listings, each workflow reduced to {@code fields}. */
+    PageResponse<WorkflowSummary> getMyWorkflowSummaries(String username, Pageable pageable, Set<WorkflowField> fields);
+    PageResponse<WorkflowSummary> getAllWorkflowSummaries(Pageable pageable, Set<WorkflowField> fields);
+    PageResponse<WorkflowSummary> getWorkflowSummariesByStatus(String status, Pageable pageable, Set<WorkflowField> fields);
+    CursorPage<WorkflowSummary> getMyWorkflowSummaries(String username, KeysetPageRequest page, Set<WorkflowField> fields);
+    CursorPage<WorkflowSummary> getAllWorkflowSummaries(KeysetPageRequest page, Set<WorkflowField> fields);
+    CursorPage<WorkflowSummary> getWorkflowSummariesByStatus(String status, KeysetPageRequest page, Set<WorkflowField> fields);
     WorkflowResponse submitWorkflow(Long workflowId, String username);
     WorkflowResponse processApproval(Long workflowId, ApprovalActionRequest request, String approverUsername);
+    /** Applies each item as {@link #processApproval} would, in one transaction, and reports each by index. */
+    List<BulkItemResult> processApprovals(List<BatchApprovalRequest.Item> items, String approverUsername);
     WorkflowResponse cancelWorkflow(Long workflowId, String username);
     List<WorkflowResponse> getPendingWorkflowsForApprover(String approverUsername);
+    CursorPage<InboxItemResponse> getInbox(String approverUsername, KeysetPageRequest page);
+    long countPendingForApprover(String approverUsername);
     List<ApprovalHistoryResponse> getWorkflowHistory(Long workflowId);
 }
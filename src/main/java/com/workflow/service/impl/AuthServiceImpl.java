@@ -1,38 +1,66 @@
 package com.workflow.service.impl;
 
 import com.workflow.dto.request.LoginRequest;
+import com.workflow.dto.request.RegisterRequest;
 import com.workflow.dto.response.AuthResponse;
 import com.workflow.entity.User;
-import com.workflow.repository.UserRepository;
+import com.workflow.repository.UserDirectory;
+import com.workflow.repository.UserDirectory.CachedUser;
 import com.workflow.security.JwtTokenProvider;
+import com.workflow.security.PasswordHasher;
 import com.workflow.service.AuthService;
+import com.workflow.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
+/** Login and registration complete asynchronously on the {@link PasswordHasher} pool. */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuthServiceImpl implements AuthService {
 
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
+    private final UserService userService;
 
     @Override
-    public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.username(), request.password())
-        );
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
+        CachedUser user = userDirectory.findByUsername(request.username()).orElse(null);
+
+        return passwordHasher.verify(request.password(), user != null ? user.password() : null)
+                .thenApply(verification -> {
+                    if (!verification.matches()) {
+                        throw new BadCredentialsException("Bad credentials");
+                    }
+                    if (!user.active()) {
+                        throw new DisabledException("User is disabled");
+                    }
+                    if (verification.upgradedHash() != null) {
+                        userService.upgradePasswordHash(user.id(), user.username(), user.password(),
+                                verification.upgradedHash());
+                    }
 
-        String token = jwtTokenProvider.generateToken(authentication);
-        User user = userRepository.findByUsername(request.username())
-                .orElseThrow(() -> new RuntimeException("User not found after authentication"));
+                    String token = jwtTokenProvider.generateToken(user.id(), user.username(), user.role(), user.tokenEpoch());
+                    log.info("User logged in: {}", user.username());
+                    return AuthResponse.of(token, user.username(), user.email(), user.role().name(), user.id());
+                });
+    }
 
-        log.info("User logged in: {}", request.username());
-        return AuthResponse.of(token, user.getUsername(), user.getEmail(), user.getRole().name(), user.getId());
+    @Override
+    public CompletableFuture<AuthResponse> register(RegisterRequest request) {
+        return passwordHasher.encode(request.password())
+                .thenApply(hash -> {
+                    User saved = userService.createUser(request, hash);
+                    String token = jwtTokenProvider.generateToken(saved.getId(), saved.getUsername(), saved.getRole(),
+                            saved.getTokenEpoch());
+                    return AuthResponse.of(token, saved.getUsername(), saved.getEmail(), saved.getRole().name(),
+                            saved.getId());
+                });
     }
 }
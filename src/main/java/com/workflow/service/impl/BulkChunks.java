@@ -0,0 +1,49 @@
+package com.workflow.service.impl;
+
+import com.workflow.dto.request.BulkItem;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.exception.WorkloadSaturatedException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/** How the bulk imports report invalid items and chunks that could not be written. */
+@Slf4j
+final class BulkChunks {
+
+    private BulkChunks() {
+    }
+
+    /** The item's bean-validation violations as one message, or null if it has none. */
+    static <T> String violations(Validator validator, T item) {
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /** Runs {@code write} for {@code chunk}, reporting each item failed when the database is busy or failing. */
+    static List<BulkItemResult> write(String importName, List<? extends BulkItem<?>> chunk,
+                                      Supplier<List<BulkItemResult>> write) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return write.get();
+        } catch (WorkloadSaturatedException | DataAccessException e) {
+            log.warn("{} chunk of {} failed: {}", importName, chunk.size(), e.getMessage());
+            String error = e instanceof WorkloadSaturatedException ? e.getMessage() : "Could not be stored, retry the item";
+            return chunk.stream().map(item -> BulkItemResult.failed(item.index(), error)).toList();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.workflow.service.impl;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Reads RFC 4180 CSV one record at a time. */
+final class CsvReader {
+
+    private final PushbackReader in;
+
+    CsvReader(Reader in) {
+        this.in = new PushbackReader(in);
+    }
+
+    /**
+     * The fields of the next record, or null at the end of the input.
+     *
+     * @throws MalformedCsvException where the input stops being CSV
+     */
+    List<String> next() throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"' && field.isEmpty()) {
+                readQuoted(field);
+                c = in.read();
+                if (c != ',' && c != '\r' && c != '\n' && c != -1) {
+                    throw new MalformedCsvException("Unexpected character after the closing quote of field " + (fields.size() + 1));
+                }
+                continue;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int lf = in.read();
+                    if (lf != '\n' && lf != -1) {
+                        in.unread(lf);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = in.read();
+            if (c == -1) {
+                throw new MalformedCsvException("Unterminated quoted field");
+            }
+            if (c == '"') {
+                int next = in.read();
+                if (next != '"') {
+                    if (next != -1) {
+                        in.unread(next);
+                    }
+                    return;
+                }
+            }
+            field.append((char) c);
+        }
+    }
+
+    static final class MalformedCsvException extends IOException {
+        MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.workflow.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workflow.concurrency.Bulkhead;
+import com.workflow.concurrency.Workload;
+import com.workflow.dto.request.ExportFilter;
+import com.workflow.exception.WorkflowException;
+import com.workflow.repository.WorkflowExportRepository;
+import com.workflow.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.function.ThrowingSupplier;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/** Writes exports as NDJSON, one object per line, from the repository's cursor in one read-only transaction. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+@Bulkhead(Workload.BULK_READ)
+public class ExportServiceImpl implements ExportService {
+
+    private final WorkflowExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void exportWorkflows(ExportFilter filter, ThrowingSupplier<OutputStream> output) throws IOException {
+        validate(filter);
+        write(output, sink -> exportRepository.streamWorkflows(filter, sink::accept));
+    }
+
+    @Override
+    public void exportHistory(ExportFilter filter, ThrowingSupplier<OutputStream> output) throws IOException {
+        validate(filter);
+        write(output, sink -> exportRepository.streamHistory(filter, sink::accept));
+    }
+
+    private void write(ThrowingSupplier<OutputStream> output, Consumer<Consumer<Object>> rows) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long[] written = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output.get())) {
+            rows.accept(row -> {
+                try {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("Export aborted after {} rows: {}", written[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        log.info("Exported {} rows", written[0]);
+    }
+
+    private static void validate(ExportFilter filter) {
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new WorkflowException("'from' must be before 'to'");
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.workflow.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.config.BulkImportProperties;
+import com.workflow.dto.request.BulkItem;
+import com.workflow.dto.request.RegisterRequest;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.dto.response.BulkReport;
+import com.workflow.enums.Role;
+import com.workflow.exception.WorkflowException;
+import com.workflow.repository.UserBulkRepository.NewUser;
+import com.workflow.repository.UserBulkRepository.Taken;
+import com.workflow.security.PasswordHasher;
+import com.workflow.service.UserImportService;
+import com.workflow.service.UserService;
+import com.workflow.service.impl.CsvReader.MalformedCsvException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** Reads the body one record at a time and creates the users in chunks of {@code app.bulk.chunk-size}. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final List<String> COLUMNS = List.of("username", "email", "password", "fullName", "role");
+
+    private final UserService userService;
+    private final PasswordHasher passwordHasher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BulkImportProperties properties;
+
+    @Override
+    public BulkReport importUsers(InputStream body, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RecordReader records = format == Format.CSV ? csv(reader) : ndjson(reader);
+
+        List<BulkItemResult> results = new ArrayList<>();
+        List<BulkItem<RegisterRequest>> chunk = new ArrayList<>(properties.getChunkSize());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        int index = 0;
+        try {
+            for (Record record; (record = records.next()) != null; index++) {
+                String error = record.error() != null ? record.error() : violations(record.request());
+                if (error == null && usernames.contains(record.request().username())) {
+                    error = "Username appears more than once in the import: " + record.request().username();
+                } else if (error == null && emails.contains(record.request().email())) {
+                    error = "Email appears more than once in the import: " + record.request().email();
+                }
+                if (error != null) {
+                    results.add(BulkItemResult.failed(index, error));
+                    continue;
+                }
+                usernames.add(record.request().username());
+                emails.add(record.request().email());
+                chunk.add(new BulkItem<>(index, record.request()));
+                if (chunk.size() == properties.getChunkSize()) {
+                    results.addAll(write(chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (MalformedCsvException e) {
+            results.add(BulkItemResult.failed(index, "Malformed CSV, import stopped here: " + e.getMessage()));
+        }
+        results.addAll(write(chunk));
+        results.sort(Comparator.comparingInt(BulkItemResult::index));
+
+        BulkReport report = BulkReport.of(results);
+        log.info("User import ({}): {} received, {} created, {} failed", format,
+                report.received(), report.succeeded(), report.failed());
+        return report;
+    }
+
+    /** Items found taken keep that as their result even when the chunk's insert then fails. */
+    private List<BulkItemResult> write(List<BulkItem<RegisterRequest>> chunk) {
+        List<BulkItem<RegisterRequest>> fresh = new ArrayList<>(chunk.size());
+        List<BulkItemResult> results = new ArrayList<>(BulkChunks.write("User import", chunk, () -> {
+            Taken taken = userService.findTaken(
+                    chunk.stream().map(item -> item.item().username()).toList(),
+                    chunk.stream().map(item -> item.item().email()).toList());
+            List<BulkItemResult> rejected = new ArrayList<>();
+            for (BulkItem<RegisterRequest> item : chunk) {
+                if (taken.usernames().contains(item.item().username())) {
+                    rejected.add(BulkItemResult.failed(item.index(), "Username already taken: " + item.item().username()));
+                } else if (taken.emails().contains(item.item().email())) {
+                    rejected.add(BulkItemResult.failed(item.index(), "Email already registered: " + item.item().email()));
+                } else {
+                    fresh.add(item);
+                }
+            }
+            return rejected;
+        }));
+
+        results.addAll(BulkChunks.write("User import", fresh, () -> {
+            List<String> hashes = passwordHasher.encodeAll(fresh.stream().map(item -> item.item().password()).toList());
+            List<BulkItem<NewUser>> users = new ArrayList<>(fresh.size());
+            for (int i = 0; i < fresh.size(); i++) {
+                RegisterRequest request = fresh.get(i).item();
+                users.add(new BulkItem<>(fresh.get(i).index(), new NewUser(request.username(), request.email(),
+                        hashes.get(i), request.fullName(), role(request.role()))));
+            }
+            return userService.createUsers(users);
+        }));
+        return results;
+    }
+
+    /** Maps the header's columns, named as in {@link #COLUMNS} in any order and case, onto each record. */
+    private static RecordReader csv(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header;
+        try {
+            header = csv.next();
+        } catch (MalformedCsvException e) {
+            throw new WorkflowException("Unreadable CSV header: " + e.getMessage());
+        }
+        if (header == null) {
+            throw new WorkflowException("Expected a CSV header row naming the columns " + COLUMNS);
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim();
+            String column = COLUMNS.stream().filter(name::equalsIgnoreCase).findFirst()
+                    .orElseThrow(() -> new WorkflowException("Unknown CSV column '" + name + "', expected " + COLUMNS));
+            if (positions.put(column, i) != null) {
+                throw new WorkflowException("CSV column '" + column + "' appears more than once in the header");
+            }
+        }
+        if (!positions.keySet().containsAll(COLUMNS.subList(0, 4))) {
+            throw new WorkflowException("The CSV header must name the columns " + COLUMNS.subList(0, 4));
+        }
+
+        return () -> {
+            List<String> fields;
+            do {
+                fields = csv.next();
+            } while (fields != null && fields.size() == 1 && fields.get(0).isEmpty());
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() != header.size()) {
+                return Record.failed("Expected " + header.size() + " fields, found " + fields.size());
+            }
+            List<String> values = fields;
+            Integer role = positions.get("role");
+            return Record.of(new RegisterRequest(
+                    values.get(positions.get("username")),
+                    values.get(positions.get("email")),
+                    values.get(positions.get("password")),
+                    values.get(positions.get("fullName")),
+                    role != null ? values.get(role) : null));
+        };
+    }
+
+    /** One object per line; blank lines are skipped. */
+    private RecordReader ndjson(BufferedReader reader) {
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            try {
+                RegisterRequest request = objectMapper.readValue(line, RegisterRequest.class);
+                return request != null ? Record.of(request) : Record.failed("Unreadable user: null");
+            } catch (JsonProcessingException e) {
+                return Record.failed("Unreadable user: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private String violations(RegisterRequest request) {
+        String violations = BulkChunks.violations(validator, request);
+        if (violations == null && role(request.role()) == null) {
+            return "role: unknown role '" + request.role() + "'";
+        }
+        return violations;
+    }
+
+    /** Unlike registration, which falls back to EMPLOYEE, an import reports a role it does not know. */
+    private static Role role(String role) {
+        if (role == null || role.isBlank()) {
+            return Role.EMPLOYEE;
+        }
+        try {
+            return Role.valueOf(role.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordReader {
+        /** The next record, or null at the end of the input. */
+        Record next() throws IOException;
+    }
+
+    /** A record read as a request, or why it could not be. */
+    private record Record(RegisterRequest request, String error) {
+        static Record of(RegisterRequest request) {
+            return new Record(request, null);
+        }
+
+        static Record failed(String error) {
+            return new Record(null, error);
+        }
+    }
+}
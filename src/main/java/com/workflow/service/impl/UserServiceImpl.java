@@ -1,47 +1,61 @@
 package com.workflow.service.impl;
 
+import com.workflow.concurrency.Bulkhead;
+import com.workflow.concurrency.Workload;
+import com.workflow.dto.request.BulkItem;
+import com.workflow.dto.request.KeysetCursor;
+import com.workflow.dto.request.KeysetPageRequest;
 import com.workflow.dto.request.RegisterRequest;
-import com.workflow.dto.response.AuthResponse;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.dto.response.CursorPage;
 import com.workflow.dto.response.UserResponse;
 import com.workflow.entity.User;
 import com.workflow.enums.Role;
 import com.workflow.exception.DuplicateResourceException;
 import com.workflow.exception.ResourceNotFoundException;
-import com.workflow.mapper.UserMapper;
+import com.workflow.repository.UserBulkRepository;
+import com.workflow.repository.UserBulkRepository.NewUser;
+import com.workflow.repository.UserBulkRepository.Taken;
+import com.workflow.repository.UserChangeStampRepository;
+import com.workflow.repository.UserDirectory;
+import com.workflow.repository.UserDirectory.CachedUser;
+import com.workflow.repository.UserReadRepository;
 import com.workflow.repository.UserRepository;
-import com.workflow.security.JwtTokenProvider;
+import com.workflow.security.TokenRevocationRegistry;
 import com.workflow.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Bulkhead(Workload.WRITE)
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final UserReadRepository userReadRepository;
+    private final UserBulkRepository userBulkRepository;
+    private final UserChangeStampRepository userChangeStampRepository;
+    private final UserDirectory userDirectory;
+    private final TokenRevocationRegistry tokenRevocations;
 
+    /** Inserts the user, leaving duplicates to the unique constraints; runs outside a transaction. */
     @Override
-    public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByUsername(request.username())) {
-            throw new DuplicateResourceException("Username already taken: " + request.username());
-        }
-        if (userRepository.existsByEmail(request.email())) {
-            throw new DuplicateResourceException("Email already registered: " + request.email());
-        }
-
+    @Bulkhead(Workload.AUTH)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public User createUser(RegisterRequest request, String passwordHash) {
         Role role = Role.EMPLOYEE;
         if (request.role() != null) {
             try {
@@ -54,66 +68,174 @@ public class UserServiceImpl implements UserService {
         User user = User.builder()
                 .username(request.username())
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHash)
                 .fullName(request.fullName())
                 .role(role)
                 .build();
 
-        User saved = userRepository.save(user);
-        log.info("User registered successfully: {}", saved.getUsername());
+        try {
+            User saved = userRepository.saveAndFlush(user);
+            log.info("User registered successfully: {}", saved.getUsername());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (userRepository.existsByUsername(request.username())) {
+                throw new DuplicateResourceException("Username already taken: " + request.username());
+            }
+            if (userRepository.existsByEmail(request.email())) {
+                throw new DuplicateResourceException("Email already registered: " + request.email());
+            }
+            throw e;
+        }
+    }
 
-        String token = jwtTokenProvider.generateTokenFromUsername(saved.getUsername());
-        return AuthResponse.of(token, saved.getUsername(), saved.getEmail(), saved.getRole().name(), saved.getId());
+    /** On the primary, which has the previous import chunk's users. */
+    @Override
+    public Taken findTaken(Collection<String> usernames, Collection<String> emails) {
+        return userBulkRepository.findTaken(usernames, emails);
+    }
+
+    @Override
+    public List<BulkItemResult> createUsers(List<BulkItem<NewUser>> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = userBulkRepository.insertAll(users.stream().map(BulkItem::item).toList(), LocalDateTime.now());
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            results.add(BulkItemResult.succeeded(users.get(i).index(), "CREATED", ids.get(i)));
+        }
+        log.info("Bulk created {} users", ids.size());
+        return results;
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public UserResponse getUserById(Long id) {
-        return userMapper.toResponse(findEntityById(id));
+        return userReadRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", id));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public UserResponse getUserByUsername(String username) {
-        return userMapper.toResponse(findEntityByUsername(username));
+        return userReadRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
     public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toResponse)
-                .toList();
+        return userReadRepository.findAll();
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
     public List<UserResponse> getUsersByRole(String role) {
         Role roleEnum = Role.valueOf(role.toUpperCase());
-        return userRepository.findByRole(roleEnum).stream()
-                .map(userMapper::toResponse)
-                .toList();
+        return userReadRepository.findByRole(roleEnum);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public CursorPage<UserResponse> getAllUsers(KeysetPageRequest page) {
+        KeysetCursor after = page.after();
+        List<UserResponse> rows = userReadRepository.findAfter(after.createdAt(), after.id(), page.size() + 1);
+        return CursorPage.of(rows, page.size(), page.includeTotal() ? userRepository.count() : null,
+                UserResponse::createdAt, UserResponse::id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public CursorPage<UserResponse> getUsersByRole(String role, KeysetPageRequest page) {
+        Role roleEnum = Role.valueOf(role.toUpperCase());
+        KeysetCursor after = page.after();
+        List<UserResponse> rows = userReadRepository.findByRoleAfter(roleEnum, after.createdAt(), after.id(), page.size() + 1);
+        return CursorPage.of(rows, page.size(), page.includeTotal() ? userRepository.countByRole(roleEnum) : null,
+                UserResponse::createdAt, UserResponse::id);
     }
 
     @Override
     public void deactivateUser(Long id) {
-        User user = findEntityById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", id));
         user.setActive(false);
-        userRepository.save(user);
+        revokeTokens(user);
+        // Workflow lists embed the user's active flag wherever they are creator or approver
+        userChangeStampRepository.bumpSharingWorkflowsWith(id);
         log.info("User deactivated: {}", user.getUsername());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public void revokeTokens(Long id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", id));
+        revokeTokens(user);
+        log.info("Tokens revoked for user: {}", user.getUsername());
+    }
+
+    @Override
+    @Bulkhead(Workload.AUTH)
+    public void upgradePasswordHash(Long id, String username, String currentHash, String newHash) {
+        if (userRepository.replacePasswordHash(id, currentHash, newHash) == 1) {
+            userDirectory.evict(id, username);
+            log.info("Password rehashed at the current cost for user: {}", username);
+        }
+    }
+
+    private void revokeTokens(User user) {
+        user.revokeTokens();
+        userRepository.save(user);
+        tokenRevocations.revoked(user.getId(), user.getTokenEpoch(), user.getTokensRevokedAt());
+    }
+
+    // Served by the user directory; SUPPORTS keeps a cache hit from taking a connection
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public User findEntityByUsername(String username) {
-        return userRepository.findByUsername(username)
+        return userDirectory.findByUsername(username)
+                .map(CachedUser::toEntity)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public Long findIdByUsername(String username) {
+        return userDirectory.findByUsername(username)
+                .map(CachedUser::id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public User findEntityById(Long id) {
-        return userRepository.findById(id)
+        return userDirectory.findById(id)
+                .map(CachedUser::toEntity)
                 .orElseThrow(() -> new ResourceNotFoundException("User", id));
     }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public Map<Long, User> findEntitiesByIds(Collection<Long> ids) {
+        Map<Long, CachedUser> cached = userDirectory.findAllById(ids);
+        Map<Long, User> users = new HashMap<>();
+        for (Long id : ids) {
+            CachedUser user = cached.get(id);
+            if (user == null) {
+                throw new ResourceNotFoundException("User", id);
+            }
+            users.put(id, user.toEntity());
+        }
+        return users;
+    }
 }
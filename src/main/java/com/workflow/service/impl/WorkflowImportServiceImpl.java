@@ -0,0 +1,98 @@
+package com.workflow.service.impl;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.config.BulkImportProperties;
+import com.workflow.dto.request.BulkItem;
+import com.workflow.dto.request.CreateWorkflowRequest;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.dto.response.BulkReport;
+import com.workflow.exception.WorkflowException;
+import com.workflow.service.WorkflowImportService;
+import com.workflow.service.WorkflowService;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/** Reads the array one element at a time and creates the workflows in chunks of {@code app.bulk.chunk-size}. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowImportServiceImpl implements WorkflowImportService {
+
+    private final WorkflowService workflowService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BulkImportProperties properties;
+
+    @Override
+    public BulkReport importWorkflows(InputStream json, String creatorUsername, boolean submit) throws IOException {
+        List<BulkItemResult> results = new ArrayList<>();
+        List<BulkItem<CreateWorkflowRequest>> chunk = new ArrayList<>(properties.getChunkSize());
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new WorkflowException("Expected a JSON array of workflows");
+            }
+            int index = 0;
+            try {
+                for (JsonNode element; (element = nextElement(parser)) != null; index++) {
+                    CreateWorkflowRequest request;
+                    try {
+                        request = objectMapper.treeToValue(element, CreateWorkflowRequest.class);
+                    } catch (JsonProcessingException e) {
+                        results.add(BulkItemResult.failed(index, "Unreadable workflow: " + e.getOriginalMessage()));
+                        continue;
+                    }
+                    String violations = BulkChunks.violations(validator, request);
+                    if (violations != null) {
+                        results.add(BulkItemResult.failed(index, violations));
+                        continue;
+                    }
+                    chunk.add(new BulkItem<>(index, request));
+                    if (chunk.size() == properties.getChunkSize()) {
+                        results.addAll(write(chunk, creatorUsername, submit));
+                        chunk.clear();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                results.add(BulkItemResult.failed(index, "Malformed JSON, import stopped here: " + e.getOriginalMessage()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new WorkflowException("Expected a JSON array of workflows: " + e.getOriginalMessage());
+        }
+        results.addAll(write(chunk, creatorUsername, submit));
+        results.sort(Comparator.comparingInt(BulkItemResult::index));
+
+        BulkReport report = BulkReport.of(results);
+        log.info("Bulk import by {}: {} received, {} created, {} failed", creatorUsername,
+                report.received(), report.succeeded(), report.failed());
+        return report;
+    }
+
+    /** The next array element as a tree, or null at the end of the array. */
+    private static JsonNode nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of input, the array is not closed");
+        }
+        return parser.readValueAsTree();
+    }
+
+    private List<BulkItemResult> write(List<BulkItem<CreateWorkflowRequest>> chunk, String creatorUsername, boolean submit) {
+        return BulkChunks.write("Bulk import", chunk, () -> workflowService.createWorkflows(chunk, creatorUsername, submit));
+    }
+}
@@ -1,51 +1,92 @@
 package com.workflow.service.impl;
 
+import com.workflow.concurrency.Bulkhead;
+import com.workflow.concurrency.RetryOnConflict;
+import com.workflow.concurrency.Workload;
 import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.dto.request.BatchApprovalRequest;
+import com.workflow.dto.request.BulkItem;
 import com.workflow.dto.request.CreateWorkflowRequest;
+import com.workflow.dto.request.KeysetCursor;
+import com.workflow.dto.request.KeysetPageRequest;
+import com.workflow.dto.request.WorkflowField;
 import com.workflow.dto.response.ApprovalHistoryResponse;
+import com.workflow.dto.response.ApprovalStepResponse;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.dto.response.CursorPage;
+import com.workflow.dto.response.InboxItemResponse;
 import com.workflow.dto.response.PageResponse;
+import com.workflow.dto.response.WorkflowChangeEvent;
 import com.workflow.dto.response.WorkflowResponse;
-import com.workflow.entity.ApprovalHistory;
+import com.workflow.dto.response.WorkflowSummary;
 import com.workflow.entity.ApprovalStep;
 import com.workflow.entity.User;
 import com.workflow.entity.Workflow;
 import com.workflow.enums.ApprovalAction;
 import com.workflow.enums.WorkflowStatus;
+import com.workflow.event.WorkflowEventHub;
 import com.workflow.exception.ResourceNotFoundException;
 import com.workflow.exception.UnauthorizedException;
 import com.workflow.exception.WorkflowException;
 import com.workflow.mapper.WorkflowMapper;
-import com.workflow.repository.ApprovalHistoryRepository;
-import com.workflow.repository.ApprovalStepRepository;
+import com.workflow.repository.ApproverInboxRepository;
+import com.workflow.repository.UserChangeStampRepository;
+import com.workflow.repository.UserDirectory;
+import com.workflow.repository.UserDirectory.CachedUser;
+import com.workflow.repository.WorkflowBulkRepository;
+import com.workflow.repository.WorkflowBulkRepository.Creator;
+import com.workflow.repository.WorkflowBulkRepository.NewStep;
+import com.workflow.repository.WorkflowBulkRepository.NewWorkflow;
+import com.workflow.repository.WorkflowReadRepository;
+import com.workflow.repository.WorkflowReadRepository.ApprovalState;
+import com.workflow.repository.WorkflowReadRepository.SummaryRow;
+import com.workflow.repository.WorkflowReadRepository.WorkflowSnapshot;
 import com.workflow.repository.WorkflowRepository;
+import com.workflow.repository.WorkflowTransitionRepository;
+import com.workflow.repository.WorkflowTransitionRepository.InboxChange;
+import com.workflow.repository.WorkflowTransitionRepository.Transition;
 import com.workflow.service.UserService;
 import com.workflow.service.WorkflowService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Bulkhead(Workload.WRITE)
 public class WorkflowServiceImpl implements WorkflowService {
 
     private final WorkflowRepository workflowRepository;
-    private final ApprovalStepRepository approvalStepRepository;
-    private final ApprovalHistoryRepository approvalHistoryRepository;
+    private final WorkflowReadRepository workflowReadRepository;
+    private final WorkflowTransitionRepository workflowTransitionRepository;
+    private final ApproverInboxRepository approverInboxRepository;
+    private final WorkflowBulkRepository workflowBulkRepository;
+    private final UserChangeStampRepository userChangeStampRepository;
+    private final UserDirectory userDirectory;
+    private final WorkflowEventHub workflowEvents;
     private final UserService userService;
     private final WorkflowMapper workflowMapper;
 
     @Override
     public WorkflowResponse createWorkflow(CreateWorkflowRequest request, String creatorUsername) {
-        User creator = userService.findEntityByUsername(creatorUsername);
-
         // Validate approval steps - levels must be sequential starting from 1
         List<CreateWorkflowRequest.ApprovalStepRequest> steps = request.approvalSteps()
                 .stream()
@@ -54,6 +95,11 @@ public class WorkflowServiceImpl implements WorkflowService {
 
         validateStepLevels(steps);
 
+        User creator = userService.findEntityByUsername(creatorUsername);
+        Map<Long, User> approvers = userService.findEntitiesByIds(steps.stream()
+                .map(CreateWorkflowRequest.ApprovalStepRequest::approverId)
+                .collect(Collectors.toSet()));
+
         Workflow workflow = Workflow.builder()
                 .title(request.title())
                 .description(request.description())
@@ -64,203 +110,515 @@ public class WorkflowServiceImpl implements WorkflowService {
                 .totalLevels(steps.size())
                 .build();
 
-        Workflow saved = workflowRepository.save(workflow);
-
         for (CreateWorkflowRequest.ApprovalStepRequest stepRequest : steps) {
-            User approver = userService.findEntityById(stepRequest.approverId());
-            ApprovalStep step = ApprovalStep.builder()
-                    .workflow(saved)
-                    .approver(approver)
+            workflow.getApprovalSteps().add(ApprovalStep.builder()
+                    .workflow(workflow)
+                    .approver(approvers.get(stepRequest.approverId()))
                     .level(stepRequest.level())
                     .stepName(stepRequest.stepName() != null ? stepRequest.stepName() : "Level " + stepRequest.level())
                     .status(WorkflowStatus.PENDING)
-                    .build();
-            approvalStepRepository.save(step);
+                    .build());
         }
 
+        // Steps cascade from the workflow; the graph is complete in memory, so no re-read
+        Workflow saved = workflowRepository.save(workflow);
+        userChangeStampRepository.bump(List.of(creator.getId()));
+
         log.info("Workflow created: id={}, title={}", saved.getId(), saved.getTitle());
-        return workflowMapper.toResponse(workflowRepository.findById(saved.getId()).orElseThrow());
+        return workflowMapper.toResponse(saved);
+    }
+
+    /** Validates like {@link #createWorkflow} but per item, then writes the accepted ones in batches. */
+    @Override
+    public List<BulkItemResult> createWorkflows(List<BulkItem<CreateWorkflowRequest>> requests, String creatorUsername,
+                                                boolean submit) {
+        User creator = userService.findEntityByUsername(creatorUsername);
+        Map<Long, CachedUser> approvers = userDirectory.findAllById(requests.stream()
+                .flatMap(request -> request.item().approvalSteps().stream())
+                .map(CreateWorkflowRequest.ApprovalStepRequest::approverId)
+                .collect(Collectors.toSet()));
+
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        List<Integer> accepted = new ArrayList<>(requests.size());
+        List<NewWorkflow> workflows = new ArrayList<>(requests.size());
+        for (BulkItem<CreateWorkflowRequest> request : requests) {
+            try {
+                workflows.add(toNewWorkflow(request.item(), approvers));
+                accepted.add(request.index());
+            } catch (WorkflowException | ResourceNotFoundException e) {
+                results.add(BulkItemResult.failed(request.index(), e.getMessage()));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = workflows.isEmpty() ? List.of() : workflowBulkRepository.insertAll(workflows,
+                new Creator(creator.getId(), creator.getUsername()), submit, now);
+        if (!ids.isEmpty()) {
+            Set<Long> changed = new HashSet<>();
+            changed.add(creator.getId());
+            if (submit) {
+                workflows.forEach(workflow -> changed.add(workflow.steps().get(0).approverId()));
+            }
+            userChangeStampRepository.bump(changed);
+        }
+        String outcome = submit ? "SUBMITTED" : "CREATED";
+        for (int i = 0; i < ids.size(); i++) {
+            results.add(BulkItemResult.succeeded(accepted.get(i), outcome, ids.get(i)));
+            if (submit) {
+                NewWorkflow workflow = workflows.get(i);
+                workflowEvents.publishAfterCommit(new WorkflowChangeEvent(ids.get(i), workflow.title(),
+                                WorkflowStatus.IN_PROGRESS.name(), 1, workflow.steps().size(), now),
+                        creator.getId(), null, workflow.steps().get(0).approverId());
+            }
+        }
+        results.sort(Comparator.comparingInt(BulkItemResult::index));
+
+        log.info("Bulk created {} of {} workflows for {}", ids.size(), requests.size(), creatorUsername);
+        return results;
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public WorkflowResponse getWorkflowById(Long id) {
-        return workflowMapper.toResponse(findWorkflowById(id));
+        return workflowReadRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow", id));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public String getWorkflowTag(Long id) {
+        return workflowReadRepository.findTag(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public String getChangeTag(String username) {
+        return userChangeStampRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public PageResponse<WorkflowResponse> getMyWorkflows(String username, Pageable pageable) {
-        User user = userService.findEntityByUsername(username);
-        Page<WorkflowResponse> page = workflowRepository.findByCreatedById(user.getId(), pageable)
-                .map(workflowMapper::toResponse);
-        return PageResponse.from(page);
+        Long userId = userService.findIdByUsername(username);
+        return toDetailedPage(workflowRepository.findIdsByCreatedById(userId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
     public PageResponse<WorkflowResponse> getAllWorkflows(Pageable pageable) {
-        Page<WorkflowResponse> page = workflowRepository.findAll(pageable)
-                .map(workflowMapper::toResponse);
-        return PageResponse.from(page);
+        return toDetailedPage(workflowRepository.findIds(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
     public PageResponse<WorkflowResponse> getWorkflowsByStatus(String status, Pageable pageable) {
         WorkflowStatus workflowStatus = WorkflowStatus.valueOf(status.toUpperCase());
-        Page<WorkflowResponse> page = workflowRepository.findByStatus(workflowStatus, pageable)
-                .map(workflowMapper::toResponse);
-        return PageResponse.from(page);
+        return toDetailedPage(workflowRepository.findIdsByStatus(workflowStatus, pageable));
     }
 
     @Override
-    public WorkflowResponse submitWorkflow(Long workflowId, String username) {
-        Workflow workflow = findWorkflowById(workflowId);
-        User user = userService.findEntityByUsername(username);
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public CursorPage<WorkflowResponse> getMyWorkflows(String username, KeysetPageRequest page) {
+        Long userId = userService.findIdByUsername(username);
+        KeysetCursor after = page.after();
+        List<Long> ids = workflowRepository.findIdsByCreatedByIdAfter(
+                userId, after.createdAt(), after.id(), Limit.of(page.size() + 1));
+        return toCursorPage(ids, page, () -> workflowRepository.countByCreatedById(userId));
+    }
 
-        if (!workflow.getCreatedBy().getId().equals(user.getId())) {
-            throw new UnauthorizedException("Only the workflow creator can submit it");
-        }
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public CursorPage<WorkflowResponse> getAllWorkflows(KeysetPageRequest page) {
+        KeysetCursor after = page.after();
+        List<Long> ids = workflowRepository.findIdsAfter(after.createdAt(), after.id(), Limit.of(page.size() + 1));
+        return toCursorPage(ids, page, workflowRepository::count);
+    }
 
-        if (workflow.getStatus() != WorkflowStatus.DRAFT && workflow.getStatus() != WorkflowStatus.CHANGES_REQUESTED) {
-            throw new WorkflowException("Workflow can only be submitted from DRAFT or CHANGES_REQUESTED status");
-        }
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public CursorPage<WorkflowResponse> getWorkflowsByStatus(String status, KeysetPageRequest page) {
+        WorkflowStatus workflowStatus = WorkflowStatus.valueOf(status.toUpperCase());
+        KeysetCursor after = page.after();
+        List<Long> ids = workflowRepository.findIdsByStatusAfter(
+                workflowStatus, after.createdAt(), after.id(), Limit.of(page.size() + 1));
+        return toCursorPage(ids, page, () -> workflowRepository.countByStatus(workflowStatus));
+    }
 
-        String prevStatus = workflow.getStatus().name();
-        workflow.setStatus(WorkflowStatus.IN_PROGRESS);
-        workflow.setCurrentLevel(1);
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public PageResponse<WorkflowSummary> getMyWorkflowSummaries(String username, Pageable pageable, Set<WorkflowField> fields) {
+        Long userId = userService.findIdByUsername(username);
+        return toSummaryPage(workflowRepository.findIdsByCreatedById(userId, pageable), fields);
+    }
 
-        workflowRepository.save(workflow);
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public PageResponse<WorkflowSummary> getAllWorkflowSummaries(Pageable pageable, Set<WorkflowField> fields) {
+        return toSummaryPage(workflowRepository.findIds(pageable), fields);
+    }
 
-        recordHistory(workflow, user, ApprovalAction.APPROVE, 0,
-                "Workflow submitted for approval", prevStatus, WorkflowStatus.IN_PROGRESS.name());
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public PageResponse<WorkflowSummary> getWorkflowSummariesByStatus(String status, Pageable pageable, Set<WorkflowField> fields) {
+        WorkflowStatus workflowStatus = WorkflowStatus.valueOf(status.toUpperCase());
+        return toSummaryPage(workflowRepository.findIdsByStatus(workflowStatus, pageable), fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public CursorPage<WorkflowSummary> getMyWorkflowSummaries(String username, KeysetPageRequest page, Set<WorkflowField> fields) {
+        Long userId = userService.findIdByUsername(username);
+        KeysetCursor after = page.after();
+        List<Long> ids = workflowRepository.findIdsByCreatedByIdAfter(
+                userId, after.createdAt(), after.id(), Limit.of(page.size() + 1));
+        return toSummaryCursorPage(ids, page, () -> workflowRepository.countByCreatedById(userId), fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public CursorPage<WorkflowSummary> getAllWorkflowSummaries(KeysetPageRequest page, Set<WorkflowField> fields) {
+        KeysetCursor after = page.after();
+        List<Long> ids = workflowRepository.findIdsAfter(after.createdAt(), after.id(), Limit.of(page.size() + 1));
+        return toSummaryCursorPage(ids, page, workflowRepository::count, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.BULK_READ)
+    public CursorPage<WorkflowSummary> getWorkflowSummariesByStatus(String status, KeysetPageRequest page, Set<WorkflowField> fields) {
+        WorkflowStatus workflowStatus = WorkflowStatus.valueOf(status.toUpperCase());
+        KeysetCursor after = page.after();
+        List<Long> ids = workflowRepository.findIdsByStatusAfter(
+                workflowStatus, after.createdAt(), after.id(), Limit.of(page.size() + 1));
+        return toSummaryCursorPage(ids, page, () -> workflowRepository.countByStatus(workflowStatus), fields);
+    }
+
+    @Override
+    @RetryOnConflict("submit")
+    public WorkflowResponse submitWorkflow(Long workflowId, String username) {
+        WorkflowSnapshot snapshot = findSnapshot(workflowId);
+        WorkflowResponse workflow = snapshot.workflow();
+        requireCreator(workflow, username, "Only the workflow creator can submit it");
+
+        WorkflowStatus status = WorkflowStatus.valueOf(workflow.status());
+        if (status != WorkflowStatus.DRAFT && status != WorkflowStatus.CHANGES_REQUESTED) {
+            throw new WorkflowException("Workflow can only be submitted from DRAFT or CHANGES_REQUESTED status");
+        }
+        ApprovalStepResponse firstStep = findStep(workflow, 1);
+
+        WorkflowResponse submitted = applyTransition(snapshot, Transition.builder()
+                .toStatus(WorkflowStatus.IN_PROGRESS)
+                .toLevel(1)
+                .actorId(workflow.createdBy().id())
+                .action(ApprovalAction.APPROVE)
+                .historyLevel(0)
+                .historyComments("Workflow submitted for approval")
+                .inbox(InboxChange.ADD)
+                .inboxApproverId(firstStep.approver().id())
+                .inboxStepName(firstStep.stepName())
+                .requestedBy(workflow.createdBy().username()));
 
         log.info("Workflow submitted: id={}", workflowId);
-        return workflowMapper.toResponse(workflowRepository.findById(workflowId).orElseThrow());
+        return submitted;
     }
 
     @Override
+    @RetryOnConflict("approve")
     public WorkflowResponse processApproval(Long workflowId, ApprovalActionRequest request, String approverUsername) {
-        Workflow workflow = findWorkflowById(workflowId);
-        User approver = userService.findEntityByUsername(approverUsername);
+        WorkflowSnapshot snapshot = findSnapshot(workflowId);
+        WorkflowResponse workflow = snapshot.workflow();
 
-        if (workflow.getStatus() != WorkflowStatus.IN_PROGRESS) {
+        if (!WorkflowStatus.IN_PROGRESS.name().equals(workflow.status())) {
             throw new WorkflowException("Workflow is not in IN_PROGRESS state");
         }
 
-        ApprovalStep currentStep = approvalStepRepository
-                .findByWorkflowIdAndLevel(workflowId, workflow.getCurrentLevel())
+        int level = workflow.currentLevel();
+        ApprovalStepResponse currentStep = workflow.approvalSteps().stream()
+                .filter(step -> step.level() == level)
+                .findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("Approval step not found for current level"));
 
-        if (!currentStep.getApprover().getId().equals(approver.getId())) {
+        if (!currentStep.approver().username().equals(approverUsername)) {
             throw new UnauthorizedException("You are not the approver for the current level");
         }
 
-        String prevStatus = workflow.getStatus().name();
-        currentStep.setComments(request.comments());
-        currentStep.setActedAt(LocalDateTime.now());
-
-        switch (request.action()) {
-            case APPROVE -> handleApprove(workflow, currentStep);
-            case REJECT -> handleReject(workflow, currentStep);
-            case REQUEST_CHANGES -> handleRequestChanges(workflow, currentStep);
+        boolean advances = request.action() == ApprovalAction.APPROVE && level < workflow.totalLevels();
+        Transition.TransitionBuilder transition =
+                approvalTransition(request.action(), request.comments(), level, advances, currentStep.approver().id());
+        if (advances) {
+            ApprovalStepResponse nextStep = findStep(workflow, level + 1);
+            transition.inbox(InboxChange.MOVE)
+                    .inboxApproverId(nextStep.approver().id())
+                    .inboxStepName(nextStep.stepName());
         }
-
-        approvalStepRepository.save(currentStep);
-        Workflow updatedWorkflow = workflowRepository.save(workflow);
-
-        recordHistory(updatedWorkflow, approver, request.action(), workflow.getCurrentLevel(),
-                request.comments(), prevStatus, updatedWorkflow.getStatus().name());
+        WorkflowResponse updated = applyTransition(snapshot, transition);
 
         log.info("Approval action {} processed for workflow id={} at level={}",
-                request.action(), workflowId, workflow.getCurrentLevel());
-
-        return workflowMapper.toResponse(workflowRepository.findById(workflowId).orElseThrow());
+                request.action(), workflowId, updated.currentLevel());
+        return updated;
     }
 
     @Override
-    public WorkflowResponse cancelWorkflow(Long workflowId, String username) {
-        Workflow workflow = findWorkflowById(workflowId);
-        User user = userService.findEntityByUsername(username);
+    public List<BulkItemResult> processApprovals(List<BatchApprovalRequest.Item> items, String approverUsername) {
+        Long approverId = userService.findIdByUsername(approverUsername);
+        Map<Long, ApprovalState> states = workflowReadRepository.findApprovalStates(
+                items.stream().map(BatchApprovalRequest.Item::workflowId).collect(Collectors.toSet()));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        List<Integer> accepted = new ArrayList<>();
+        List<Transition> transitions = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int index = 0; index < items.size(); index++) {
+            BatchApprovalRequest.Item item = items.get(index);
+            ApprovalState state = states.get(item.workflowId());
+            boolean advances = state != null
+                    && item.action() == ApprovalAction.APPROVE && state.currentLevel() < state.totalLevels();
+
+            String error = !seen.add(item.workflowId()) ? "Workflow appears more than once in the batch"
+                    : state == null ? "Workflow not found with id: " + item.workflowId()
+                    : !WorkflowStatus.IN_PROGRESS.name().equals(state.status()) ? "Workflow is not in IN_PROGRESS state"
+                    : state.approverId() == null ? "Approval step not found for current level"
+                    : !state.approverId().equals(approverId) ? "You are not the approver for the current level"
+                    : advances && state.nextApproverId() == null ? "Approval step not found for level " + (state.currentLevel() + 1)
+                    : null;
+            if (error != null) {
+                results.add(BulkItemResult.failed(index, error));
+                continue;
+            }
 
-        if (!workflow.getCreatedBy().getId().equals(user.getId())) {
-            throw new UnauthorizedException("Only the workflow creator can cancel it");
+            Transition.TransitionBuilder transition =
+                    approvalTransition(item.action(), item.comments(), state.currentLevel(), advances, approverId);
+            if (advances) {
+                transition.inbox(InboxChange.MOVE)
+                        .inboxApproverId(state.nextApproverId())
+                        .inboxStepName(state.nextStepName());
+            }
+            accepted.add(index);
+            transitions.add(transition
+                    .workflowId(state.id())
+                    .version(state.version())
+                    .fromStatus(WorkflowStatus.IN_PROGRESS)
+                    .fromLevel(state.currentLevel())
+                    .at(now)
+                    .build());
         }
 
-        if (workflow.getStatus() == WorkflowStatus.APPROVED || workflow.getStatus() == WorkflowStatus.CANCELLED) {
-            throw new WorkflowException("Cannot cancel a workflow in " + workflow.getStatus() + " state");
+        boolean[] applied = transitions.isEmpty() ? new boolean[0] : workflowTransitionRepository.applyAll(transitions);
+        for (int i = 0; i < applied.length; i++) {
+            Transition transition = transitions.get(i);
+            if (!applied[i]) {
+                results.add(BulkItemResult.failed(accepted.get(i), "Workflow changed since it was read, retry the item"));
+                continue;
+            }
+            results.add(BulkItemResult.succeeded(accepted.get(i), transition.toStatus().name(), transition.workflowId()));
+            ApprovalState state = states.get(transition.workflowId());
+            workflowEvents.publishAfterCommit(new WorkflowChangeEvent(state.id(), state.title(), transition.toStatus().name(),
+                            transition.toLevel(), state.totalLevels(), now),
+                    state.createdById(), approverId, transition.inbox() == InboxChange.MOVE ? transition.inboxApproverId() : null);
         }
+        results.sort(Comparator.comparingInt(BulkItemResult::index));
+
+        log.info("Batch approval by {}: {} of {} items applied", approverUsername,
+                results.stream().filter(result -> !result.isFailed()).count(), items.size());
+        return results;
+    }
 
-        String prevStatus = workflow.getStatus().name();
-        workflow.setStatus(WorkflowStatus.CANCELLED);
-        workflowRepository.save(workflow);
+    @Override
+    @RetryOnConflict("cancel")
+    public WorkflowResponse cancelWorkflow(Long workflowId, String username) {
+        WorkflowSnapshot snapshot = findSnapshot(workflowId);
+        WorkflowResponse workflow = snapshot.workflow();
+        requireCreator(workflow, username, "Only the workflow creator can cancel it");
 
-        recordHistory(workflow, user, ApprovalAction.REJECT, workflow.getCurrentLevel(),
-                "Workflow cancelled by creator", prevStatus, WorkflowStatus.CANCELLED.name());
+        WorkflowStatus status = WorkflowStatus.valueOf(workflow.status());
+        if (status == WorkflowStatus.APPROVED || status == WorkflowStatus.CANCELLED) {
+            throw new WorkflowException("Cannot cancel a workflow in " + status + " state");
+        }
 
-        return workflowMapper.toResponse(workflowRepository.findById(workflowId).orElseThrow());
+        return applyTransition(snapshot, Transition.builder()
+                .toStatus(WorkflowStatus.CANCELLED)
+                .toLevel(workflow.currentLevel())
+                .actorId(workflow.createdBy().id())
+                .action(ApprovalAction.REJECT)
+                .historyLevel(workflow.currentLevel())
+                .historyComments("Workflow cancelled by creator")
+                .inbox(InboxChange.REMOVE));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public List<WorkflowResponse> getPendingWorkflowsForApprover(String approverUsername) {
-        User approver = userService.findEntityByUsername(approverUsername);
-        return workflowRepository.findPendingWorkflowsForApprover(approver.getId())
-                .stream()
-                .map(workflowMapper::toResponse)
-                .toList();
+        Long approverId = userService.findIdByUsername(approverUsername);
+        return workflowReadRepository.findAllById(approverInboxRepository.findWorkflowIds(approverId));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public CursorPage<InboxItemResponse> getInbox(String approverUsername, KeysetPageRequest page) {
+        Long approverId = userService.findIdByUsername(approverUsername);
+        KeysetCursor after = page.after();
+        // Oldest first, so the newest-first START sentinel means "no lower bound" here
+        List<InboxItemResponse> rows = KeysetCursor.START.equals(after)
+                ? approverInboxRepository.findFirstPage(approverId, Limit.of(page.size() + 1))
+                : approverInboxRepository.findPageAfter(approverId, after.createdAt(), after.id(), Limit.of(page.size() + 1));
+        return CursorPage.of(rows, page.size(), page.includeTotal() ? approverInboxRepository.countByApproverId(approverId) : null,
+                InboxItemResponse::pendingSince, InboxItemResponse::workflowId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
+    public long countPendingForApprover(String approverUsername) {
+        return approverInboxRepository.countByApproverId(userService.findIdByUsername(approverUsername));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.INTERACTIVE_READ)
     public List<ApprovalHistoryResponse> getWorkflowHistory(Long workflowId) {
-        findWorkflowById(workflowId); // validate exists
-        return approvalHistoryRepository.findByWorkflowIdOrderByCreatedAtDesc(workflowId)
-                .stream()
-                .map(workflowMapper::toHistoryResponse)
-                .toList();
+        List<ApprovalHistoryResponse> history = workflowReadRepository.findHistory(workflowId);
+        if (history.isEmpty() && !workflowReadRepository.existsById(workflowId)) {
+            throw new ResourceNotFoundException("Workflow", workflowId);
+        }
+        return history;
     }
 
     // ---- Private helpers ----
 
-    private void handleApprove(Workflow workflow, ApprovalStep step) {
-        step.setStatus(WorkflowStatus.APPROVED);
-        if (workflow.getCurrentLevel() >= workflow.getTotalLevels()) {
-            workflow.setStatus(WorkflowStatus.APPROVED);
-        } else {
-            workflow.setCurrentLevel(workflow.getCurrentLevel() + 1);
+    /** Writes the transition and returns the snapshot with the change applied; a guard miss is a conflict. */
+    private WorkflowResponse applyTransition(WorkflowSnapshot snapshot, Transition.TransitionBuilder builder) {
+        WorkflowResponse workflow = snapshot.workflow();
+        Transition transition = builder
+                .workflowId(workflow.id())
+                .version(snapshot.version())
+                .fromStatus(WorkflowStatus.valueOf(workflow.status()))
+                .fromLevel(workflow.currentLevel())
+                .at(LocalDateTime.now())
+                .build();
+
+        if (!workflowTransitionRepository.apply(transition)) {
+            throw new OptimisticLockingFailureException("Workflow " + workflow.id() + " changed since it was read");
         }
+        Long previousApproverId = transition.fromStatus() != WorkflowStatus.IN_PROGRESS ? null : workflow.approvalSteps().stream()
+                .filter(step -> step.level() == transition.fromLevel())
+                .map(step -> step.approver().id())
+                .findFirst()
+                .orElse(null);
+        workflowEvents.publishAfterCommit(new WorkflowChangeEvent(workflow.id(), workflow.title(), transition.toStatus().name(),
+                        transition.toLevel(), workflow.totalLevels(), transition.at()),
+                workflow.createdBy().id(), previousApproverId,
+                transition.inbox() == InboxChange.REMOVE ? null : transition.inboxApproverId());
+
+        List<ApprovalStepResponse> steps = workflow.approvalSteps().stream()
+                .map(step -> transition.stepStatus() == null || step.level() != transition.stepLevel() ? step
+                        : new ApprovalStepResponse(step.id(), step.approver(), step.level(), step.stepName(),
+                                transition.stepStatus().name(), transition.stepComments(), transition.at(), step.createdAt()))
+                .toList();
+        return new WorkflowResponse(workflow.id(), workflow.title(), workflow.description(), transition.toStatus().name(),
+                workflow.createdBy(), transition.toLevel(), workflow.totalLevels(), workflow.metadata(), steps,
+                workflow.createdAt(), transition.at());
     }
 
-    private void handleReject(Workflow workflow, ApprovalStep step) {
-        step.setStatus(WorkflowStatus.REJECTED);
-        workflow.setStatus(WorkflowStatus.REJECTED);
+    /** The transition an approver's action makes at {@code level}. */
+    private static Transition.TransitionBuilder approvalTransition(ApprovalAction action, String comments, int level,
+                                                                   boolean advances, Long actorId) {
+        WorkflowStatus stepStatus = switch (action) {
+            case APPROVE -> WorkflowStatus.APPROVED;
+            case REJECT -> WorkflowStatus.REJECTED;
+            case REQUEST_CHANGES -> WorkflowStatus.CHANGES_REQUESTED;
+        };
+        int toLevel = advances ? level + 1 : action == ApprovalAction.REQUEST_CHANGES ? 0 : level;
+        return Transition.builder()
+                .toStatus(advances ? WorkflowStatus.IN_PROGRESS : stepStatus)
+                .toLevel(toLevel)
+                .stepLevel(level)
+                .stepStatus(stepStatus)
+                .stepComments(comments)
+                .actorId(actorId)
+                .action(action)
+                // History records the level the workflow is at after the action, as it always has
+                .historyLevel(toLevel)
+                .historyComments(comments)
+                .inbox(InboxChange.REMOVE);
     }
 
-    private void handleRequestChanges(Workflow workflow, ApprovalStep step) {
-        step.setStatus(WorkflowStatus.CHANGES_REQUESTED);
-        workflow.setStatus(WorkflowStatus.CHANGES_REQUESTED);
-        workflow.setCurrentLevel(0);
+    private WorkflowSnapshot findSnapshot(Long workflowId) {
+        return workflowReadRepository.findSnapshot(workflowId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow", workflowId));
     }
 
-    private void recordHistory(Workflow workflow, User actor, ApprovalAction action,
-                                int level, String comments, String fromStatus, String toStatus) {
-        ApprovalHistory history = ApprovalHistory.builder()
-                .workflow(workflow)
-                .actor(actor)
-                .action(action)
-                .level(level)
-                .comments(comments)
-                .fromStatus(fromStatus)
-                .toStatus(toStatus)
-                .build();
-        approvalHistoryRepository.save(history);
+    private static void requireCreator(WorkflowResponse workflow, String username, String message) {
+        if (!workflow.createdBy().username().equals(username)) {
+            throw new UnauthorizedException(message);
+        }
     }
 
-    private Workflow findWorkflowById(Long id) {
-        return workflowRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow", id));
+    private static ApprovalStepResponse findStep(WorkflowResponse workflow, int level) {
+        return workflow.approvalSteps().stream()
+                .filter(step -> step.level() == level)
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Approval step not found for level " + level));
+    }
+
+    private PageResponse<WorkflowResponse> toDetailedPage(Page<Long> ids) {
+        List<WorkflowResponse> content = workflowReadRepository.findAllById(ids.getContent());
+        return PageResponse.from(new PageImpl<>(content, ids.getPageable(), ids.getTotalElements()));
+    }
+
+    private CursorPage<WorkflowResponse> toCursorPage(List<Long> ids, KeysetPageRequest page, LongSupplier total) {
+        return CursorPage.of(workflowReadRepository.findAllById(ids), page.size(), page.includeTotal() ? total.getAsLong() : null,
+                WorkflowResponse::createdAt, WorkflowResponse::id);
+    }
+
+    private PageResponse<WorkflowSummary> toSummaryPage(Page<Long> ids, Set<WorkflowField> fields) {
+        List<WorkflowSummary> content = workflowReadRepository.findSummaries(ids.getContent(), fields).stream()
+                .map(SummaryRow::summary)
+                .toList();
+        return PageResponse.from(new PageImpl<>(content, ids.getPageable(), ids.getTotalElements()));
+    }
+
+    private CursorPage<WorkflowSummary> toSummaryCursorPage(List<Long> ids, KeysetPageRequest page, LongSupplier total,
+                                                            Set<WorkflowField> fields) {
+        return CursorPage.of(workflowReadRepository.findSummaries(ids, fields), page.size(),
+                        page.includeTotal() ? total.getAsLong() : null,
+                        SummaryRow::createdAt, row -> row.summary().id())
+                .map(SummaryRow::summary);
+    }
+
+    private NewWorkflow toNewWorkflow(CreateWorkflowRequest request, Map<Long, CachedUser> approvers) {
+        List<CreateWorkflowRequest.ApprovalStepRequest> steps = request.approvalSteps()
+                .stream()
+                .sorted(Comparator.comparingInt(CreateWorkflowRequest.ApprovalStepRequest::level))
+                .toList();
+        validateStepLevels(steps);
+        List<NewStep> newSteps = new ArrayList<>(steps.size());
+        for (CreateWorkflowRequest.ApprovalStepRequest step : steps) {
+            if (!approvers.containsKey(step.approverId())) {
+                throw new ResourceNotFoundException("User", step.approverId());
+            }
+            newSteps.add(new NewStep(step.approverId(), step.level(),
+                    step.stepName() != null ? step.stepName() : "Level " + step.level()));
+        }
+        return new NewWorkflow(request.title(), request.description(), request.metadata(), newSteps);
     }
 
     private void validateStepLevels(List<CreateWorkflowRequest.ApprovalStepRequest> steps) {
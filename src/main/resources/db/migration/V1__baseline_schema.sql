@@ -0,0 +1,62 @@
+-- Schema as previously created by ddl-auto. Existing databases are baselined at this
+-- version (spring.flyway.baseline-on-migrate), so this script only runs on empty ones.
+
+CREATE TABLE users (
+    id          BIGSERIAL    NOT NULL,
+    username    VARCHAR(100) NOT NULL UNIQUE,
+    email       VARCHAR(150) NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    full_name   VARCHAR(100) NOT NULL,
+    role        VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'MANAGER', 'EMPLOYEE')),
+    active      BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE workflows (
+    id             BIGSERIAL    NOT NULL,
+    title          VARCHAR(200) NOT NULL,
+    description    TEXT,
+    status         VARCHAR(255) NOT NULL CHECK (status IN ('DRAFT', 'PENDING', 'IN_PROGRESS', 'APPROVED', 'REJECTED', 'CHANGES_REQUESTED', 'CANCELLED')),
+    created_by_id  BIGINT       NOT NULL,
+    current_level  INTEGER      NOT NULL,
+    total_levels   INTEGER      NOT NULL,
+    metadata       TEXT,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE approval_steps (
+    id           BIGSERIAL    NOT NULL,
+    workflow_id  BIGINT       NOT NULL,
+    approver_id  BIGINT       NOT NULL,
+    level        INTEGER      NOT NULL,
+    step_name    VARCHAR(200),
+    status       VARCHAR(255) NOT NULL CHECK (status IN ('DRAFT', 'PENDING', 'IN_PROGRESS', 'APPROVED', 'REJECTED', 'CHANGES_REQUESTED', 'CANCELLED')),
+    comments     TEXT,
+    acted_at     TIMESTAMP(6),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE approval_history (
+    id           BIGSERIAL    NOT NULL,
+    workflow_id  BIGINT       NOT NULL,
+    actor_id     BIGINT       NOT NULL,
+    action       VARCHAR(255) NOT NULL CHECK (action IN ('APPROVE', 'REJECT', 'REQUEST_CHANGES')),
+    level        INTEGER      NOT NULL,
+    comments     TEXT,
+    from_status  VARCHAR(255) NOT NULL,
+    to_status    VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE workflows ADD CONSTRAINT FKrc8kuogn1bondsd0b3jsuml67 FOREIGN KEY (created_by_id) REFERENCES users;
+ALTER TABLE approval_steps ADD CONSTRAINT FKpw0d3mi7v5vabxweyac1yu9sr FOREIGN KEY (workflow_id) REFERENCES workflows;
+ALTER TABLE approval_steps ADD CONSTRAINT FKi31gvjt7fialtlcl5ncvjla7t FOREIGN KEY (approver_id) REFERENCES users;
+ALTER TABLE approval_history ADD CONSTRAINT FK7pm32nynyj0cju6ahjvuq7678 FOREIGN KEY (workflow_id) REFERENCES workflows;
+ALTER TABLE approval_history ADD CONSTRAINT FK4d7nins6p0d744f8d3e7y8fk5 FOREIGN KEY (actor_id) REFERENCES users;
@@ -0,0 +1,25 @@
+-- Entities allocate ids from pooled sequences (50 per round trip) instead of IDENTITY columns.
+-- Each sequence starts more than one pool past the current max id, whichever end of the pool
+-- Hibernate treats the sequence value as, so new ids can never collide with existing rows.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) FROM users) + 51, false);
+
+CREATE SEQUENCE IF NOT EXISTS workflows_seq INCREMENT BY 50;
+SELECT setval('workflows_seq', (SELECT COALESCE(MAX(id), 0) FROM workflows) + 51, false);
+
+CREATE SEQUENCE IF NOT EXISTS approval_steps_seq INCREMENT BY 50;
+SELECT setval('approval_steps_seq', (SELECT COALESCE(MAX(id), 0) FROM approval_steps) + 51, false);
+
+CREATE SEQUENCE IF NOT EXISTS approval_history_seq INCREMENT BY 50;
+SELECT setval('approval_history_seq', (SELECT COALESCE(MAX(id), 0) FROM approval_history) + 51, false);
+
+-- The old BIGSERIAL defaults would hand out ids from a second, unrelated sequence.
+ALTER TABLE users ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE workflows ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE approval_steps ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE approval_history ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS users_id_seq;
+DROP SEQUENCE IF EXISTS workflows_id_seq;
+DROP SEQUENCE IF EXISTS approval_steps_id_seq;
+DROP SEQUENCE IF EXISTS approval_history_id_seq;
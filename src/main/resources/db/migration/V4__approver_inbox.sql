@@ -0,0 +1,27 @@
+-- Materialized "pending for me": one row per IN_PROGRESS workflow, owned by the current level's
+-- approver and maintained by the workflow transitions in the same transaction.
+
+CREATE TABLE approver_inbox (
+    workflow_id    BIGINT       NOT NULL,
+    approver_id    BIGINT       NOT NULL,
+    level          INTEGER      NOT NULL,
+    total_levels   INTEGER      NOT NULL,
+    step_name      VARCHAR(200),
+    title          VARCHAR(200) NOT NULL,
+    requested_by   VARCHAR(100) NOT NULL,
+    pending_since  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (workflow_id),
+    CONSTRAINT fk_approver_inbox_workflow FOREIGN KEY (workflow_id) REFERENCES workflows ON DELETE CASCADE,
+    CONSTRAINT fk_approver_inbox_approver FOREIGN KEY (approver_id) REFERENCES users
+);
+
+-- Backfill from the join the inbox replaces. The workflow's last update is when it reached its current level.
+INSERT INTO approver_inbox (workflow_id, approver_id, level, total_levels, step_name, title, requested_by, pending_since)
+SELECT w.id, s.approver_id, w.current_level, w.total_levels, s.step_name, w.title, u.username,
+       COALESCE(w.updated_at, w.created_at, now())
+FROM workflows w
+JOIN approval_steps s ON s.workflow_id = w.id AND s.level = w.current_level
+JOIN users u ON u.id = w.created_by_id
+WHERE w.status = 'IN_PROGRESS';
+
+CREATE INDEX idx_approver_inbox_approver_pending ON approver_inbox (approver_id, pending_since, workflow_id);
@@ -0,0 +1,79 @@
+-- Store approval_history in monthly range partitions on created_at. Queries bound created_at so the
+-- planner can prune partitions, and retention is a DETACH PARTITION instead of a bulk DELETE.
+-- The primary key of a partitioned table must include the partition key, hence (id, created_at);
+-- ids still come from approval_history_seq and stay unique.
+
+ALTER TABLE approval_history RENAME TO approval_history_unpartitioned;
+ALTER TABLE approval_history_unpartitioned RENAME CONSTRAINT approval_history_pkey TO approval_history_unpartitioned_pkey;
+
+CREATE TABLE approval_history (
+    id           BIGINT       NOT NULL,
+    workflow_id  BIGINT       NOT NULL,
+    actor_id     BIGINT       NOT NULL,
+    action       VARCHAR(255) NOT NULL CHECK (action IN ('APPROVE', 'REJECT', 'REQUEST_CHANGES')),
+    level        INTEGER      NOT NULL,
+    comments     TEXT,
+    from_status  VARCHAR(255) NOT NULL,
+    to_status    VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT approval_history_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_approval_history_workflow FOREIGN KEY (workflow_id) REFERENCES workflows,
+    CONSTRAINT fk_approval_history_actor FOREIGN KEY (actor_id) REFERENCES users
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside every monthly partition so an insert never fails for lack of one.
+-- It is expected to stay empty; the partition maintainer warns when it is not.
+CREATE TABLE approval_history_default PARTITION OF approval_history DEFAULT;
+
+-- Creates the partition holding the month of month_start (approval_history_YYYY_MM) if it is missing.
+CREATE OR REPLACE FUNCTION ensure_approval_history_partition(month_start DATE) RETURNS TEXT AS $$
+DECLARE
+    from_ts   TIMESTAMP := date_trunc('month', month_start);
+    partition TEXT := 'approval_history_' || to_char(from_ts, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF approval_history FOR VALUES FROM (%L) TO (%L)',
+                       partition, from_ts, from_ts + INTERVAL '1 month');
+    END IF;
+    RETURN partition;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches every monthly partition that ends on or before cutoff and returns their names.
+-- Detached tables are left in place for archiving; dropping them is a separate, deliberate step.
+CREATE OR REPLACE FUNCTION detach_approval_history_partitions(cutoff TIMESTAMP) RETURNS SETOF TEXT AS $$
+DECLARE
+    partition TEXT;
+BEGIN
+    FOR partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'approval_history'::regclass
+          AND c.relname ~ '^approval_history_[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        IF to_date(right(partition, 7), 'YYYY_MM') + INTERVAL '1 month' <= cutoff THEN
+            EXECUTE format('ALTER TABLE approval_history DETACH PARTITION %I', partition);
+            RETURN NEXT partition;
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every month that already has history, through three months ahead
+SELECT ensure_approval_history_partition(month::DATE)
+FROM generate_series(
+        date_trunc('month', COALESCE((SELECT MIN(created_at) FROM approval_history_unpartitioned), now())),
+        date_trunc('month', now()) + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+INSERT INTO approval_history (id, workflow_id, actor_id, action, level, comments, from_status, to_status, created_at)
+SELECT id, workflow_id, actor_id, action, level, comments, from_status, to_status, COALESCE(created_at, now())
+FROM approval_history_unpartitioned;
+
+DROP TABLE approval_history_unpartitioned;
+
+-- Partitioned indexes: created on the parent, cascaded to every current and future partition
+CREATE INDEX idx_approval_history_workflow_created ON approval_history (workflow_id, created_at DESC);
+CREATE INDEX idx_approval_history_actor_created ON approval_history (actor_id, created_at DESC);
@@ -0,0 +1,3 @@
+-- Version columns for optimistic locking of workflow transitions (constant default: no table rewrite)
+ALTER TABLE workflows ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE approval_steps ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
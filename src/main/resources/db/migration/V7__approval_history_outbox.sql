@@ -0,0 +1,20 @@
+-- Transactional outbox for approval history. Transitions append here in their own transaction and
+-- ApprovalHistoryWriter moves the rows into approval_history in batches. Kept small and unpartitioned,
+-- so the append inside a transition stays cheap.
+
+CREATE TABLE approval_history_outbox (
+    id           BIGINT       NOT NULL,
+    workflow_id  BIGINT       NOT NULL,
+    actor_id     BIGINT       NOT NULL,
+    action       VARCHAR(255) NOT NULL CHECK (action IN ('APPROVE', 'REJECT', 'REQUEST_CHANGES')),
+    level        INTEGER      NOT NULL,
+    comments     TEXT,
+    from_status  VARCHAR(255) NOT NULL,
+    to_status    VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Drain order, and history reads that include rows not yet moved
+CREATE INDEX idx_approval_history_outbox_created ON approval_history_outbox (created_at, id);
+CREATE INDEX idx_approval_history_outbox_workflow ON approval_history_outbox (workflow_id);
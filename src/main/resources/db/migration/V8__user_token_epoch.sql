@@ -0,0 +1,6 @@
+-- Per-user token epoch: tokens carry the epoch they were issued under, so bumping it revokes them all.
+-- tokens_revoked_at lets each instance pick up recent bumps incrementally (constant default: no rewrite).
+ALTER TABLE users ADD COLUMN token_epoch INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN tokens_revoked_at TIMESTAMP(6);
+
+CREATE INDEX idx_users_tokens_revoked ON users (tokens_revoked_at) WHERE tokens_revoked_at IS NOT NULL;
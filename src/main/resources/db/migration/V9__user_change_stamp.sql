@@ -0,0 +1,3 @@
+-- Per-user change stamp, bumped by every write that changes the user's own workflows or their inbox,
+-- so conditional GETs of those lists are answered from this one column (constant default: no rewrite).
+ALTER TABLE users ADD COLUMN change_stamp BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,150 @@
+package com.workflow.concurrency;
+
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.exception.WorkloadSaturatedException;
+import com.workflow.integration.IntegrationFixtures;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Throughput of the approve cycle on platform threads and on virtual threads (Java 21+).
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.governor.enabled=true",
+        "app.concurrency.bulkheads.write.max-wait=60s",
+        "app.concurrency.bulkheads.interactive-read.max-wait=60s"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("Approve cycle benchmark")
+class ApproveCycleBenchmarkTest {
+
+    private static final int CYCLES = 2_000;
+    private static final int WARMUP_CYCLES = 200;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private User firstApprover;
+    private User secondApprover;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("bench-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        firstApprover = fixtures.createUser("bench-first-" + suffix, Role.MANAGER);
+        secondApprover = fixtures.createUser("bench-second-" + suffix, Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Platform threads: fixed pool of 200")
+    void platformThreads() throws Exception {
+        run("platform", () -> Executors.newFixedThreadPool(PLATFORM_THREADS));
+    }
+
+    @Test
+    @DisplayName("Virtual threads: one per cycle")
+    void virtualThreads() throws Exception {
+        assumeTrue(virtualThreadExecutor().isPresent(), "virtual threads need Java 21");
+        run("virtual", () -> virtualThreadExecutor().orElseThrow());
+    }
+
+    private void run(String mode, ExecutorFactory executors) throws Exception {
+        measure(executors, WARMUP_CYCLES);
+        Result result = measure(executors, CYCLES);
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("approve-cycle[%s]: %d cycles in %d ms, %.0f cycles/s, p50 %.1f ms, p99 %.1f ms, "
+                        + "max %.1f ms, %d rejected%n",
+                mode, CYCLES, TimeUnit.NANOSECONDS.toMillis(result.elapsed()),
+                CYCLES / (result.elapsed() / 1e9), millis(latencies, 0.50), millis(latencies, 0.99),
+                millis(latencies, 1.0), result.rejected());
+        assertThat(result.failed()).as("cycles failing for reasons other than saturation").isZero();
+    }
+
+    private Result measure(ExecutorFactory executors, int cycles) throws Exception {
+        long[] latencies = new long[cycles];
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(cycles);
+        long start = System.nanoTime();
+        ExecutorService executor = executors.create();
+        try {
+            for (int i = 0; i < cycles; i++) {
+                int cycle = i;
+                futures.add(executor.submit(() -> {
+                    long cycleStart = System.nanoTime();
+                    try {
+                        approveCycle(cycle);
+                    } catch (WorkloadSaturatedException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[cycle] = System.nanoTime() - cycleStart;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new Result(System.nanoTime() - start, latencies, rejected.get(), failed.get());
+    }
+
+    private void approveCycle(int cycle) {
+        Long id = fixtures.createWorkflow("Benchmark " + cycle, creator, firstApprover, secondApprover);
+        workflowService.submitWorkflow(id, creator);
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), firstApprover.getUsername());
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), secondApprover.getUsername());
+    }
+
+    /** {@code Executors.newVirtualThreadPerTaskExecutor()}, looked up reflectively so this compiles on Java 17. */
+    private static Optional<ExecutorService> virtualThreadExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface ExecutorFactory {
+        ExecutorService create();
+    }
+
+    private record Result(long elapsed, long[] latencies, int rejected, int failed) {
+    }
+}
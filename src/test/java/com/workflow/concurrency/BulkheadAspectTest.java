@@ -0,0 +1,130 @@
+package com.workflow.concurrency;
+
+import com.workflow.exception.WorkloadSaturatedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BulkheadAspect Tests")
+class BulkheadAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadAspect aspect;
+    private Workloads proxy;
+    private final CountDownLatch scanStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseScan = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getBulkRead().setPermits(1);
+        properties.getBulkRead().setMaxWait(Duration.ofMillis(50));
+        properties.getWrite().setMaxWait(Duration.ofMillis(50));
+        properties.getBackground().setMaxWait(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Workloads());
+        factory.setProxyTargetClass(true);
+        aspect = new BulkheadAspect(properties, meterRegistry, 9);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseScan.countDown();
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond a saturated workload's permits without affecting other workloads")
+    void shouldIsolateSaturatedWorkload() throws Exception {
+        CompletableFuture<String> scan = CompletableFuture.supplyAsync(proxy::slowScan);
+        assertThat(scanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(proxy.approve()).isEqualTo("approved");
+        assertThatThrownBy(() -> proxy.quickScan()).isInstanceOf(WorkloadSaturatedException.class);
+        assertThat(meterRegistry.get(BulkheadAspect.REJECTED_METRIC).tag("workload", "bulk_read").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.permits.active").tag("workload", "bulk_read").gauge().value())
+                .isEqualTo(1);
+
+        releaseScan.countDown();
+        assertThat(scan.get(5, TimeUnit.SECONDS)).isEqualTo("scanned");
+        assertThat(proxy.quickScan()).isEqualTo("scanned");
+    }
+
+    @Test
+    @DisplayName("Should run nested calls under the permit already held")
+    void shouldNotTakeSecondPermitForNestedCalls() throws Exception {
+        CompletableFuture<String> scan = CompletableFuture.supplyAsync(proxy::slowScan);
+        assertThat(scanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(proxy.approveThenScan(proxy)).isEqualTo("scanned");
+        assertThat(meterRegistry.get("bulkhead.permits.active").tag("workload", "write").gauge().value()).isZero();
+
+        releaseScan.countDown();
+        scan.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should hold unproxied background work to its own permit, apart from request workloads")
+    void shouldIsolateBackgroundWork() throws Exception {
+        CompletableFuture<String> sweep = CompletableFuture.supplyAsync(() -> aspect.call(Workload.BACKGROUND, "sweep", () -> {
+            scanStarted.countDown();
+            try {
+                releaseScan.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "swept";
+        }));
+        assertThat(scanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> aspect.call(Workload.BACKGROUND, "flush", () -> "flushed"))
+                .isInstanceOf(WorkloadSaturatedException.class);
+        assertThat(proxy.approve()).isEqualTo("approved");
+        assertThat(proxy.quickScan()).isEqualTo("scanned");
+
+        releaseScan.countDown();
+        assertThat(sweep.get(5, TimeUnit.SECONDS)).isEqualTo("swept");
+        assertThat(aspect.call(Workload.BACKGROUND, "flush", () -> "flushed")).isEqualTo("flushed");
+    }
+
+    @Bulkhead(Workload.WRITE)
+    class Workloads {
+
+        public String approve() {
+            return "approved";
+        }
+
+        public String approveThenScan(Workloads self) {
+            return self.quickScan();
+        }
+
+        @Bulkhead(Workload.BULK_READ)
+        public String slowScan() {
+            scanStarted.countDown();
+            try {
+                releaseScan.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "scanned";
+        }
+
+        @Bulkhead(Workload.BULK_READ)
+        public String quickScan() {
+            return "scanned";
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.workflow.concurrency;
+
+import com.workflow.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OptimisticRetryAspect Tests")
+class OptimisticRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FlakyTransition target;
+    private FlakyTransition proxy;
+
+    @BeforeEach
+    void setUp() {
+        OptimisticRetryProperties properties = new OptimisticRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setMaxBackoffMs(0);
+        meterRegistry = new SimpleMeterRegistry();
+        target = new FlakyTransition();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OptimisticRetryAspect(properties, meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should retry a conflicting transition until it wins")
+    void shouldRetryUntilSuccess() {
+        target.conflictsLeft = 2;
+
+        assertThat(proxy.approve()).isEqualTo("approved");
+        assertThat(target.calls).isEqualTo(3);
+        assertThat(conflicts("retried")).isEqualTo(2);
+        assertThat(conflicts("rejected")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give up with ConcurrentUpdateException after the configured attempts")
+    void shouldRejectWhenRetriesAreExhausted() {
+        target.conflictsLeft = 5;
+
+        assertThatThrownBy(() -> proxy.approve())
+                .isInstanceOf(ConcurrentUpdateException.class)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(target.calls).isEqualTo(3);
+        assertThat(conflicts("retried")).isEqualTo(2);
+        assertThat(conflicts("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry other failures")
+    void shouldNotRetryOtherExceptions() {
+        target.failure = new IllegalStateException("not your turn");
+
+        assertThatThrownBy(() -> proxy.approve()).isInstanceOf(IllegalStateException.class);
+        assertThat(target.calls).isEqualTo(1);
+    }
+
+    private double conflicts(String outcome) {
+        var counter = meterRegistry.find(OptimisticRetryAspect.CONFLICTS_METRIC)
+                .tags("endpoint", "approve", "outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    static class FlakyTransition {
+        int conflictsLeft;
+        int calls;
+        RuntimeException failure;
+
+        @RetryOnConflict("approve")
+        public String approve() {
+            calls++;
+            if (failure != null) {
+                throw failure;
+            }
+            if (conflictsLeft-- > 0) {
+                throw new OptimisticLockingFailureException("stale workflow version");
+            }
+            return "approved";
+        }
+    }
+}
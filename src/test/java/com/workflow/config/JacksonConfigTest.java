@@ -0,0 +1,72 @@
+package com.workflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workflow.dto.response.ApiResponse;
+import com.workflow.dto.response.ApprovalStepResponse;
+import com.workflow.dto.response.PageResponse;
+import com.workflow.dto.response.UserResponse;
+import com.workflow.dto.response.WorkflowResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Jackson configuration tests")
+class JacksonConfigTest {
+
+    private final JacksonConfig config = new JacksonConfig();
+    private final ObjectMapper standard = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper tuned = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(config.blackbirdModule(), config.isoDateTimeModule())
+            .build();
+
+    @Test
+    @DisplayName("Should write date-times exactly as the ISO formatter does")
+    void shouldMatchIsoFormatter() throws Exception {
+        List<LocalDateTime> times = List.of(
+                LocalDateTime.of(2024, 3, 1, 9, 5),
+                LocalDateTime.of(2024, 3, 1, 9, 5, 7),
+                LocalDateTime.of(2024, 12, 31, 23, 59, 59, 250_000_000),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_000),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_789),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 1),
+                LocalDateTime.of(7, 1, 1, 0, 0),
+                LocalDateTime.of(10_000, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 1, 1, 0, 0));
+
+        for (LocalDateTime time : times) {
+            assertThat(tuned.writeValueAsString(time)).as("%s", time).isEqualTo(standard.writeValueAsString(time));
+        }
+    }
+
+    @Test
+    @DisplayName("Should write responses byte for byte as the standard mapper does")
+    void shouldWriteResponsesUnchanged() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 9, 5, 7, 120_000_000);
+        UserResponse creator = new UserResponse(1L, "alice", "alice@example.com", "Alice", "EMPLOYEE", true, at);
+        UserResponse approver = new UserResponse(2L, "bob", "bob@example.com", "Bob \"B\"", "MANAGER", false, at);
+        WorkflowResponse workflow = new WorkflowResponse(10L, "Laptop", null, "IN_PROGRESS", creator, 1, 2,
+                "{\"cost\":1200}", List.of(
+                        new ApprovalStepResponse(20L, approver, 1, "Level 1", "APPROVED", "ok", at.plusHours(1), at),
+                        new ApprovalStepResponse(21L, approver, 2, "Final", "PENDING", null, null, at)),
+                at, at.plusHours(1));
+        ApiResponse<PageResponse<WorkflowResponse>> response =
+                ApiResponse.success(new PageResponse<>(List.of(workflow, workflow), 0, 10, 2, 1, true));
+
+        assertThat(tuned.writeValueAsString(response)).isEqualTo(standard.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("Should leave timestamps to the default serializer when they are enabled")
+    void shouldDeferToTimestamps() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 9, 5, 7);
+
+        assertThat(tuned.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(at))
+                .isEqualTo("[2024,3,1,9,5,7]");
+    }
+}
@@ -0,0 +1,127 @@
+package com.workflow.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.workflow.dto.response.ApiResponse;
+import com.workflow.dto.response.ApprovalStepResponse;
+import com.workflow.dto.response.PageResponse;
+import com.workflow.dto.response.UserResponse;
+import com.workflow.dto.response.WorkflowResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JMH comparison of writing a page of workflows with the standard and the {@link JacksonConfig} ObjectMapper.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Tag("benchmark")
+@DisplayName("Response serialization benchmark")
+public class SerializationBenchmarkTest {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper standardMapper;
+    private ObjectWriter standard;
+    private ObjectMapper tunedMapper;
+    private ObjectWriter tuned;
+    private PageResponse<WorkflowResponse> page;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+
+    @Setup
+    public void setUp() {
+        JacksonConfig config = new JacksonConfig();
+        standardMapper = Jackson2ObjectMapperBuilder.json().build();
+        tunedMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(config.blackbirdModule(), config.isoDateTimeModule())
+                .build();
+        standard = standardMapper.writer();
+        tuned = tunedMapper.writer();
+
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 9, 5, 7, 123_456_000);
+        List<WorkflowResponse> workflows = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            UserResponse creator = user(i * 4, at);
+            List<ApprovalStepResponse> steps = new ArrayList<>();
+            for (int level = 1; level <= 3; level++) {
+                steps.add(new ApprovalStepResponse(i * 10 + level, user(i * 4 + level, at), level, "Level " + level,
+                        level == 1 ? "APPROVED" : "PENDING", level == 1 ? "Looks good" : null,
+                        level == 1 ? at.plusMinutes(level) : null, at));
+            }
+            workflows.add(new WorkflowResponse(i, "Purchase request " + i, "New laptop for the team", "IN_PROGRESS",
+                    creator, 2, 3, "{\"cost\":1200,\"currency\":\"EUR\"}", steps, at, at.plusMinutes(1)));
+        }
+        page = new PageResponse<>(workflows, 0, pageSize, 10_000, 10_000 / pageSize, false);
+    }
+
+    @Benchmark
+    public int currentPath() throws IOException {
+        return write(standardMapper, standard, new ApiResponse<>(true, null, page, LocalDateTime.now()));
+    }
+
+    @Benchmark
+    public int tunedPath() throws IOException {
+        return write(tunedMapper, tuned, ApiResponse.success(page));
+    }
+
+    // As MappingJackson2HttpMessageConverter writes a body: one UTF-8 generator over the response stream
+    private int write(ObjectMapper mapper, ObjectWriter writer, Object body) throws IOException {
+        out.reset();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            writer.writeValue(generator, body);
+        }
+        return out.size();
+    }
+
+    private static UserResponse user(long id, LocalDateTime at) {
+        return new UserResponse(id, "user" + id, "user" + id + "@example.com", "User " + id, "MANAGER", true, at);
+    }
+
+    @Test
+    @DisplayName("Serialize a page of workflows: standard vs tuned")
+    void run() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(SerializationBenchmarkTest.class.getName() + "\\.")
+                .build()).run();
+
+        assertThat(results).hasSize(4);
+        for (RunResult result : results) {
+            System.out.printf("serialization[%s, pageSize=%s]: %.1f us/page (+/- %.1f)%n",
+                    result.getParams().getBenchmark().replaceAll(".*\\.", ""), result.getParams().getParam("pageSize"),
+                    result.getPrimaryResult().getScore(), result.getPrimaryResult().getScoreError());
+        }
+    }
+}
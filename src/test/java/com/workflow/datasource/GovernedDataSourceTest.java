@@ -0,0 +1,85 @@
+package com.workflow.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GovernedDataSource Tests")
+class GovernedDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+    private SimpleMeterRegistry meterRegistry;
+    private GovernedDataSource governed;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        meterRegistry = new SimpleMeterRegistry();
+        governed = new GovernedDataSource(pool, "primary", 1, Duration.ofMillis(100), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should hold a caller back until the connection ahead of it is closed")
+    void shouldQueueUntilConnectionClosed() throws Exception {
+        GovernedDataSource patient = new GovernedDataSource(pool, "patient", 1, Duration.ofSeconds(5), meterRegistry);
+        Connection first = patient.getConnection();
+        CompletableFuture<Connection> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return patient.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(50);
+        assertThat(second).isNotDone();
+        assertThat(meterRegistry.get("db.governor.waiting").tag("pool", "patient").gauge().value()).isEqualTo(1);
+        first.close();
+
+        assertThat(second.get(1, TimeUnit.SECONDS)).isNotNull();
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should fail with a transient error once the max wait passes, without touching the pool")
+    void shouldRejectAfterMaxWait() throws Exception {
+        governed.getConnection();
+
+        assertThatThrownBy(governed::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(pool, times(1)).getConnection();
+        assertThat(meterRegistry.get("db.governor.rejected").tag("pool", "primary").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return a permit once however often the connection is closed")
+    void shouldReleaseOncePerConnection() throws Exception {
+        Connection connection = governed.getConnection();
+        connection.close();
+        connection.close();
+
+        governed.getConnection();
+        assertThatThrownBy(governed::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("db.governor.permits.active").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool fails to hand out a connection")
+    void shouldReleaseWhenPoolFails() throws Exception {
+        when(pool.getConnection()).thenThrow(new SQLException("pool down")).thenAnswer(invocation -> mock(Connection.class));
+
+        assertThatThrownBy(governed::getConnection).hasMessage("pool down");
+        assertThat(governed.getConnection()).isNotNull();
+    }
+}
@@ -0,0 +1,224 @@
+package com.workflow.event;
+
+import com.workflow.config.WorkflowEventProperties;
+import com.workflow.dto.response.WorkflowChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("WorkflowEventHub Tests")
+class WorkflowEventHubTest {
+
+    private static final long CREATOR = 1L;
+    private static final long FIRST_APPROVER = 2L;
+    private static final long SECOND_APPROVER = 3L;
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sendsBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseSends = new CountDownLatch(1);
+    private WorkflowEventProperties properties;
+    private WorkflowEventHub hub;
+    private volatile boolean blockSends;
+    private volatile boolean ignoreInterrupts;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WorkflowEventProperties();
+        properties.setHeartbeat(Duration.ofHours(1));
+        hub = newHub();
+    }
+
+    private WorkflowEventHub newHub() {
+        return new WorkflowEventHub(properties, meterRegistry) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSends.countDown();
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should push a transition to its creator and to the approvers it moved between")
+    void shouldPushToEachAffectedUser() {
+        RecordingEmitter creator = subscribe(CREATOR, null);
+        RecordingEmitter first = subscribe(FIRST_APPROVER, null);
+        RecordingEmitter second = subscribe(SECOND_APPROVER, null);
+
+        hub.publishAfterCommit(change(10L, "IN_PROGRESS", 2), CREATOR, FIRST_APPROVER, SECOND_APPROVER);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(creator.eventNames()).containsExactly("workflow-changed");
+            assertThat(first.eventNames()).containsExactly("inbox-removed");
+            assertThat(second.eventNames()).containsExactly("inbox-added");
+        });
+        assertThat(second.text()).contains("IN_PROGRESS");
+    }
+
+    @Test
+    @DisplayName("Should replay the events after Last-Event-ID, or ask for a resync when it is unknown")
+    void shouldReplayOrResync() {
+        RecordingEmitter live = subscribe(CREATOR, null);
+        hub.publishAfterCommit(change(10L, "IN_PROGRESS", 1), CREATOR, null, FIRST_APPROVER);
+        hub.publishAfterCommit(change(11L, "IN_PROGRESS", 1), CREATOR, null, FIRST_APPROVER);
+        hub.publishAfterCommit(change(10L, "APPROVED", 1), CREATOR, FIRST_APPROVER, null);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> live.eventIds().size() == 3);
+
+        RecordingEmitter resumed = subscribe(CREATOR, live.eventIds().get(0));
+        RecordingEmitter stranger = subscribe(CREATOR, "someone-else-7");
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(resumed.eventIds()).containsExactlyElementsOf(live.eventIds().subList(1, 3));
+            assertThat(stranger.eventNames()).containsExactly("resync");
+        });
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber that falls behind instead of blocking the publisher")
+    void shouldDropSlowSubscriber() throws Exception {
+        properties.setBufferSize(2);
+        blockSends = true;
+        subscribe(FIRST_APPROVER, null);
+        assertThat(sendsBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (long id = 1; id <= 3; id++) {
+            hub.publishAfterCommit(change(id, "IN_PROGRESS", 1), CREATOR, null, FIRST_APPROVER);
+        }
+
+        assertThat(meterRegistry.get("events.subscribers.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("events.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose write is stuck and keep serving the others")
+    void shouldDropStuckSubscriber() throws Exception {
+        properties.setSenderThreads(1);
+        properties.setSendTimeout(Duration.ofMillis(50));
+        hub.shutdown();
+        hub = newHub();
+        blockSends = true;
+        RecordingEmitter stalled = subscribe(FIRST_APPROVER, null);
+        assertThat(sendsBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        blockSends = false;
+        RecordingEmitter healthy = subscribe(SECOND_APPROVER, null);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            hub.dropStuckSubscribers();
+            assertThat(meterRegistry.get("events.subscribers.dropped").counter().count()).isEqualTo(1);
+        });
+        hub.publishAfterCommit(change(10L, "IN_PROGRESS", 1), CREATOR, null, SECOND_APPROVER);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(healthy.eventNames()).containsExactly("inbox-added"));
+        assertThat(stalled.eventNames()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stop adding sender threads for stuck writes once sender-threads of them were added")
+    void shouldCapSpareSenders() {
+        properties.setSenderThreads(1);
+        properties.setSendTimeout(Duration.ofMillis(50));
+        hub.shutdown();
+        // The pool gauges would otherwise keep reporting the first hub's pool
+        meterRegistry = new SimpleMeterRegistry();
+        hub = newHub();
+        blockSends = true;
+        ignoreInterrupts = true;
+        subscribe(FIRST_APPROVER, null);
+        subscribe(SECOND_APPROVER, null);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            hub.dropStuckSubscribers();
+            assertThat(meterRegistry.get("events.subscribers.dropped").counter().count()).isEqualTo(2);
+        });
+        assertThat(meterRegistry.get("executor.pool.max").gauge().value()).isEqualTo(2);
+
+        releaseSends.countDown();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(meterRegistry.get("executor.pool.max").gauge().value()).isEqualTo(1));
+    }
+
+    private RecordingEmitter subscribe(long userId, String lastEventId) {
+        hub.subscribe(userId, lastEventId);
+        return emitters.get(emitters.size() - 1);
+    }
+
+    private static WorkflowChangeEvent change(Long workflowId, String status, int level) {
+        return new WorkflowChangeEvent(workflowId, "Laptop", status, level, 2, LocalDateTime.now());
+    }
+
+    /**
+     * Keeps what would be written to the stream; one created while the test holds sends back blocks every
+     * send, and fails it like a broken stream when interrupted, unless interrupts are ignored too.
+     */
+    private class RecordingEmitter extends SseEmitter {
+
+        private final StringBuffer text = new StringBuffer();
+        private final boolean blocking = blockSends;
+        private final boolean interruptible = !ignoreInterrupts;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (blocking) {
+                sendsBlocked.countDown();
+                while (true) {
+                    try {
+                        releaseSends.await();
+                        break;
+                    } catch (InterruptedException e) {
+                        if (interruptible) {
+                            // As a socket write given up on would
+                            throw new IOException("Send interrupted", e);
+                        }
+                    }
+                }
+            }
+            builder.build().forEach(part -> text.append(part.getData()));
+        }
+
+        String text() {
+            return text.toString();
+        }
+
+        List<String> eventNames() {
+            return matches("event:(\\S+)");
+        }
+
+        List<String> eventIds() {
+            return matches("id:(\\S+)");
+        }
+
+        private List<String> matches(String regex) {
+            Matcher matcher = Pattern.compile(regex).matcher(text);
+            List<String> found = new CopyOnWriteArrayList<>();
+            while (matcher.find()) {
+                found.add(matcher.group(1));
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.workflow.integration;
+
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.dto.response.ApprovalHistoryResponse;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.repository.ApprovalHistoryWriter;
+import com.workflow.service.WorkflowService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Approval history writer tests")
+class ApprovalHistoryWriterIntegrationTest {
+
+    @Autowired private WorkflowService workflowService;
+    @Autowired private ApprovalHistoryWriter historyWriter;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private User approver;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("hw-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        approver = fixtures.createUser("hw-approver-" + suffix, Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Should show history at once and move it from the outbox into approval_history in order")
+    void shouldGroupCommitHistoryInOrder() {
+        Long id = fixtures.createWorkflow("History", creator, approver);
+        workflowService.submitWorkflow(id, creator);
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.REQUEST_CHANGES, "more"), approver.getUsername());
+        workflowService.submitWorkflow(id, creator);
+
+        assertThat(workflowService.getWorkflowHistory(id))
+                .extracting(ApprovalHistoryResponse::toStatus)
+                .containsExactly("IN_PROGRESS", "CHANGES_REQUESTED", "IN_PROGRESS");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(count("approval_history_outbox", id)).isZero());
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT to_status FROM approval_history WHERE workflow_id = ? ORDER BY id", String.class, id))
+                .containsExactly("IN_PROGRESS", "CHANGES_REQUESTED", "IN_PROGRESS");
+        assertThat(meterRegistry.get("history.writer.batch.size").summary().count()).isPositive();
+        assertThat(meterRegistry.get("history.writer.flush").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should move rows left in the outbox by an earlier process")
+    void shouldRecoverLeftoverOutboxRows() {
+        Long id = fixtures.createWorkflow("History", creator, approver);
+        Long actorId = approver.getId();
+        jdbcTemplate.update("""
+                INSERT INTO approval_history_outbox (id, workflow_id, actor_id, action, level, comments, from_status, to_status, created_at)
+                VALUES (-1, ?, ?, 'APPROVE', 0, 'left behind', 'DRAFT', 'IN_PROGRESS', ?)
+                """, id, actorId, LocalDateTime.now());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> historyWriter.flush() == 0 && count("approval_history_outbox", id) == 0);
+
+        assertThat(count("approval_history", id)).isEqualTo(1);
+        assertThat(workflowService.getWorkflowHistory(id)).extracting(ApprovalHistoryResponse::comments)
+                .isEqualTo(List.of("left behind"));
+    }
+
+    private long count(String table, Long workflowId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE workflow_id = ?", Long.class, workflowId);
+    }
+}
@@ -0,0 +1,111 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Approver Inbox Integration Tests")
+class ApproverInboxIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private User firstApprover;
+    private User secondApprover;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("inbox-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        firstApprover = fixtures.createUser("inbox-first-" + suffix, Role.MANAGER);
+        secondApprover = fixtures.createUser("inbox-second-" + suffix, Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should move a workflow through approver inboxes as it is submitted, approved and sent back")
+    void shouldFollowWorkflowThroughInboxes() throws Exception {
+        Long id = fixtures.createWorkflow("Laptop", creator, firstApprover, secondApprover);
+        assertThat(count(firstApprover)).isZero();
+
+        workflowService.submitWorkflow(id, creator);
+        assertThat(count(firstApprover)).isEqualTo(1);
+        JsonNode item = getData("/api/workflows/pending-for-me?cursor=", firstApprover).get("content").get(0);
+        assertThat(item.get("workflowId").asLong()).isEqualTo(id);
+        assertThat(item.get("requestedBy").asText()).isEqualTo(creator);
+        assertThat(item.get("level").asInt()).isEqualTo(1);
+
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), firstApprover.getUsername());
+        assertThat(count(firstApprover)).isZero();
+        assertThat(count(secondApprover)).isEqualTo(1);
+
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.REQUEST_CHANGES, "more detail"),
+                secondApprover.getUsername());
+        assertThat(count(secondApprover)).isZero();
+
+        workflowService.submitWorkflow(id, creator);
+        assertThat(count(firstApprover)).isEqualTo(1);
+        workflowService.cancelWorkflow(id, creator);
+        assertThat(count(firstApprover)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should page an inbox oldest first, following nextCursor")
+    void shouldPageInboxOldestFirst() throws Exception {
+        List<Long> submitted = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long id = fixtures.createWorkflow("Request " + i, creator, firstApprover, secondApprover);
+            workflowService.submitWorkflow(id, creator);
+            submitted.add(id);
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            JsonNode data = getData("/api/workflows/pending-for-me?size=2&cursor=" + cursor, firstApprover);
+            data.get("content").forEach(item -> seen.add(item.get("workflowId").asLong()));
+            cursor = data.get("hasNext").asBoolean() ? data.get("nextCursor").asText() : null;
+        }
+
+        assertThat(seen).containsExactlyElementsOf(submitted);
+        assertThat(workflowService.getPendingWorkflowsForApprover(firstApprover.getUsername()))
+                .extracting(workflow -> workflow.id())
+                .containsExactlyElementsOf(submitted);
+    }
+
+    private long count(User approver) throws Exception {
+        return getData("/api/workflows/pending-for-me/count", approver).asLong();
+    }
+
+    private JsonNode getData(String url, User approver) throws Exception {
+        String body = mockMvc.perform(get(url).with(user(approver.getUsername()).roles(approver.getRole().name())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+}
@@ -3,15 +3,28 @@ package com.workflow.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.workflow.dto.request.LoginRequest;
 import com.workflow.dto.request.RegisterRequest;
+import com.workflow.enums.Role;
+import com.workflow.security.JwtAuthenticationFilter;
+import com.workflow.security.JwtPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -23,6 +36,14 @@ class AuthIntegrationTest {
 
     @Autowired private MockMvc mockMvc;
     @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtAuthenticationFilter jwtAuthenticationFilter;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    private AuthRequests auth;
+
+    @BeforeEach
+    void setUp() {
+        auth = new AuthRequests(mockMvc, objectMapper);
+    }
 
     @Test
     @DisplayName("Should register and login successfully")
@@ -32,9 +53,7 @@ class AuthIntegrationTest {
                 "password123", "Integration User", "EMPLOYEE"
         );
 
-        mockMvc.perform(post("/api/auth/register")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(registerRequest)))
+        auth.register(registerRequest)
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.token").isNotEmpty())
@@ -42,14 +61,49 @@ class AuthIntegrationTest {
 
         LoginRequest loginRequest = new LoginRequest("integrationuser", "password123");
 
-        mockMvc.perform(post("/api/auth/login")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(loginRequest)))
+        auth.login(loginRequest)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.token").isNotEmpty());
     }
 
+    @Test
+    @DisplayName("Should authenticate a bearer token without querying the database")
+    void shouldAuthenticateTokenWithoutQueries() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest(
+                "tokenuser", "token@test.com", "password123", "Token User", "MANAGER");
+        String body = auth.register(registerRequest)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(body).get("data").get("token").asText();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        for (int i = 0; i < 3; i++) {
+            assertThat(authenticate("Bearer " + token)).isInstanceOfSatisfying(JwtPrincipal.class, principal -> {
+                assertThat(principal.getUsername()).isEqualTo("tokenuser");
+                assertThat(principal.role()).isEqualTo(Role.MANAGER);
+            });
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(before);
+        assertThat(authenticate("Bearer " + token + "x")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return 409 when the username or email is already registered")
+    void shouldReturn409ForDuplicateRegistration() throws Exception {
+        RegisterRequest original = new RegisterRequest("dupuser", "dup@test.com", "password123", "Dup User", null);
+        auth.register(original)
+                .andExpect(status().isCreated());
+
+        auth.register(new RegisterRequest("dupuser", "other@test.com", "password123", "Dup User", null))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Username already taken: dupuser"));
+        auth.register(new RegisterRequest("otheruser", "dup@test.com", "password123", "Dup User", null))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Email already registered: dup@test.com"));
+    }
+
     @Test
     @DisplayName("Should return 400 for invalid registration data")
     void shouldReturn400ForInvalidRegistration() throws Exception {
@@ -67,9 +121,19 @@ class AuthIntegrationTest {
     void shouldReturn401ForBadCredentials() throws Exception {
         LoginRequest badLogin = new LoginRequest("nonexistent", "wrongpassword");
 
-        mockMvc.perform(post("/api/auth/login")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(badLogin)))
+        auth.login(badLogin)
                 .andExpect(status().isUnauthorized());
     }
+
+    private Object authenticate(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workflows");
+        request.addHeader("Authorization", authorization);
+        try {
+            jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            return authentication != null ? authentication.getPrincipal() : null;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
 }
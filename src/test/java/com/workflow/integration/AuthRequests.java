@@ -0,0 +1,64 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.dto.request.LoginRequest;
+import com.workflow.dto.request.RegisterRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Registration and login through MockMvc, for the integration tests that need real tokens. */
+class AuthRequests {
+
+    static final String PASSWORD = "password123";
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+
+    AuthRequests(MockMvc mockMvc, ObjectMapper objectMapper) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+    }
+
+    ResultActions register(RegisterRequest request) throws Exception {
+        return performAsync(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    ResultActions login(LoginRequest request) throws Exception {
+        return performAsync(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    /** Registers an employee and returns the response's data, token included. */
+    JsonNode register(String username) throws Exception {
+        String body = register(new RegisterRequest(username, username + "@test.com", PASSWORD, username, "EMPLOYEE"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+
+    /** Logs in a user registered by {@link #register(String)} and returns the token. */
+    String login(String username) throws Exception {
+        String body = login(new LoginRequest(username, PASSWORD))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data").get("token").asText();
+    }
+
+    /** Login and registration complete asynchronously: waits for the result and dispatches it. */
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
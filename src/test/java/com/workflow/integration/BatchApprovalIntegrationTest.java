@@ -0,0 +1,132 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.dto.request.BatchApprovalRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Batch Approval Integration Tests")
+class BatchApprovalIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private User firstApprover;
+    private User secondApprover;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("batch-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        firstApprover = fixtures.createUser("batch-first-" + suffix, Role.MANAGER);
+        secondApprover = fixtures.createUser("batch-second-" + suffix, Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should apply the valid items and report each invalid one without failing the batch")
+    void shouldReportEachItem() throws Exception {
+        Long advancing = submitted("Advances", 2);
+        Long singleLevel = submitted("Final", 1);
+        Long rejected = submitted("Rejected", 1);
+        Long draft = create("Draft", 1);
+        Long notMine = submitted("Not mine", 2);
+        workflowService.processApproval(notMine,
+                new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), firstApprover.getUsername());
+
+        JsonNode report = approveBatch(firstApprover, List.of(
+                new BatchApprovalRequest.Item(advancing, ApprovalAction.APPROVE, "first level ok"),
+                new BatchApprovalRequest.Item(singleLevel, ApprovalAction.APPROVE, null),
+                new BatchApprovalRequest.Item(draft, ApprovalAction.APPROVE, null),
+                new BatchApprovalRequest.Item(notMine, ApprovalAction.APPROVE, null),
+                new BatchApprovalRequest.Item(rejected, ApprovalAction.REJECT, "no budget"),
+                new BatchApprovalRequest.Item(singleLevel, ApprovalAction.REJECT, null),
+                new BatchApprovalRequest.Item(999_999L, ApprovalAction.APPROVE, null)));
+
+        assertThat(report.get("received").asInt()).isEqualTo(7);
+        assertThat(report.get("succeeded").asInt()).isEqualTo(3);
+        JsonNode items = report.get("items");
+        assertThat(items).extracting(item -> item.get("outcome").asText())
+                .containsExactly("IN_PROGRESS", "APPROVED", "FAILED", "FAILED", "REJECTED", "FAILED", "FAILED");
+        assertThat(items.get(0).get("id").asLong()).isEqualTo(advancing);
+        assertThat(items.get(2).get("error").asText()).isEqualTo("Workflow is not in IN_PROGRESS state");
+        assertThat(items.get(3).get("error").asText()).isEqualTo("You are not the approver for the current level");
+        assertThat(items.get(5).get("error").asText()).contains("more than once");
+        assertThat(items.get(6).get("error").asText()).isEqualTo("Workflow not found with id: 999999");
+
+        assertThat(workflowService.getWorkflowById(advancing).currentLevel()).isEqualTo(2);
+        assertThat(workflowService.getWorkflowById(singleLevel).status()).isEqualTo("APPROVED");
+        assertThat(workflowService.getWorkflowById(rejected).status()).isEqualTo("REJECTED");
+        assertThat(workflowService.countPendingForApprover(firstApprover.getUsername())).isZero();
+        assertThat(workflowService.getPendingWorkflowsForApprover(secondApprover.getUsername()))
+                .extracting(workflow -> workflow.id())
+                .containsExactlyInAnyOrder(notMine, advancing);
+        assertThat(workflowService.getWorkflowHistory(rejected)).hasSize(2)
+                .first()
+                .satisfies(entry -> {
+                    assertThat(entry.toStatus()).isEqualTo("REJECTED");
+                    assertThat(entry.comments()).isEqualTo("no budget");
+                });
+
+        JsonNode second = approveBatch(secondApprover,
+                List.of(new BatchApprovalRequest.Item(advancing, ApprovalAction.APPROVE, null)));
+        assertThat(second.get("items").get(0).get("outcome").asText()).isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/workflows/approve-batch").with(user(firstApprover.getUsername()).roles("MANAGER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private JsonNode approveBatch(User approver, List<BatchApprovalRequest.Item> items) throws Exception {
+        String response = mockMvc.perform(post("/api/workflows/approve-batch")
+                        .with(user(approver.getUsername()).roles(approver.getRole().name()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchApprovalRequest(items))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("data");
+    }
+
+    private Long submitted(String title, int levels) {
+        Long id = create(title, levels);
+        workflowService.submitWorkflow(id, creator);
+        return id;
+    }
+
+    private Long create(String title, int levels) {
+        return levels == 1
+                ? fixtures.createWorkflow(title, creator, firstApprover)
+                : fixtures.createWorkflow(title, creator, firstApprover, secondApprover);
+    }
+}
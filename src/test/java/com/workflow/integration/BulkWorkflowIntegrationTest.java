@@ -0,0 +1,114 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.bulk.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Bulk Workflow Integration Tests")
+class BulkWorkflowIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private User approver;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("bulk-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        approver = fixtures.createUser("bulk-approver-" + suffix, Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Should create and submit the valid items across chunks and report each invalid one")
+    void shouldReportEachItem() throws Exception {
+        String body = "[" + String.join(",",
+                workflow("First", approver.getId(), 1),
+                "{\"approvalSteps\":[{\"approverId\":" + approver.getId() + ",\"level\":1}]}",
+                workflow("Unknown approver", 999_999L, 1),
+                workflow("Second", approver.getId(), 1),
+                workflow("Gap in levels", approver.getId(), 2),
+                "{\"title\":\"Ill-typed\",\"approvalSteps\":\"none\"}",
+                workflow("Third", approver.getId(), 1)) + "]";
+
+        JsonNode report = bulk(body, true);
+
+        assertThat(report.get("received").asInt()).isEqualTo(7);
+        assertThat(report.get("succeeded").asInt()).isEqualTo(3);
+        JsonNode items = report.get("items");
+        assertThat(items).extracting(item -> item.get("outcome").asText())
+                .containsExactly("SUBMITTED", "FAILED", "FAILED", "SUBMITTED", "FAILED", "FAILED", "SUBMITTED");
+        assertThat(items.get(1).get("error").asText()).contains("title");
+        assertThat(items.get(2).get("error").asText()).isEqualTo("User not found with id: 999999");
+        assertThat(items.get(4).get("error").asText()).contains("sequential levels");
+
+        long id = items.get(3).get("id").asLong();
+        assertThat(workflowService.getWorkflowById(id).status()).isEqualTo("IN_PROGRESS");
+        assertThat(workflowService.countPendingForApprover(approver.getUsername())).isEqualTo(3);
+        assertThat(workflowService.getWorkflowHistory(id)).singleElement()
+                .satisfies(entry -> assertThat(entry.toStatus()).isEqualTo("IN_PROGRESS"));
+
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), approver.getUsername());
+        assertThat(workflowService.getWorkflowById(id).status()).isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("Should keep the items before a malformed element and stop there")
+    void shouldStopAtMalformedJson() throws Exception {
+        String body = "[" + workflow("Kept", approver.getId(), 1) + "," + workflow("Also kept", approver.getId(), 1)
+                + "," + workflow("Kept too", approver.getId(), 1) + ", {\"title\": ";
+
+        JsonNode items = bulk(body, false).get("items");
+
+        assertThat(items).extracting(item -> item.get("outcome").asText()).containsExactly("CREATED", "CREATED", "CREATED", "FAILED");
+        assertThat(items.get(3).get("index").asInt()).isEqualTo(3);
+        assertThat(workflowService.getWorkflowById(items.get(0).get("id").asLong()).status()).isEqualTo("DRAFT");
+    }
+
+    @Test
+    @DisplayName("Should reject a body that is not a JSON array")
+    void shouldRejectNonArray() throws Exception {
+        mockMvc.perform(post("/api/workflows/bulk").with(user(creator).roles("EMPLOYEE"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(workflow("Single", approver.getId(), 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private JsonNode bulk(String body, boolean submit) throws Exception {
+        String response = mockMvc.perform(post("/api/workflows/bulk?submit=" + submit).with(user(creator).roles("EMPLOYEE"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("data");
+    }
+
+    private static String workflow(String title, Long approverId, int level) {
+        return "{\"title\":\"" + title + "\",\"approvalSteps\":[{\"approverId\":" + approverId + ",\"level\":" + level + "}]}";
+    }
+}
@@ -0,0 +1,179 @@
+package com.workflow.integration;
+
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.dto.request.BatchApprovalRequest;
+import com.workflow.dto.request.KeysetPageRequest;
+import com.workflow.dto.response.ApprovalHistoryResponse;
+import com.workflow.dto.response.BulkItemResult;
+import com.workflow.dto.response.WorkflowResponse;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.enums.WorkflowStatus;
+import com.workflow.exception.ConcurrentUpdateException;
+import com.workflow.exception.WorkflowException;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Concurrent transition tests")
+class ConcurrentTransitionIntegrationTest {
+
+    private static final int RACERS = 6;
+
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private User approver;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("race-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        approver = fixtures.createUser("race-approver-" + suffix, Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many racing approvals win, with no lost update or duplicate history")
+    void racingApprovalsApplyOnce() throws Exception {
+        Long id = fixtures.createWorkflow("Race", creator, approver);
+        workflowService.submitWorkflow(id, creator);
+
+        List<Throwable> outcomes = race(() -> workflowService.processApproval(
+                id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), approver.getUsername()));
+
+        assertThat(outcomes).filteredOn(outcome -> outcome == null).hasSize(1);
+        // Losers either re-validated against the winner's state or ran out of retries; never a silent overwrite
+        assertThat(outcomes).filteredOn(outcome -> outcome != null)
+                .allMatch(outcome -> outcome instanceof WorkflowException || outcome instanceof ConcurrentUpdateException);
+        assertThat(workflowService.getWorkflowById(id).status()).isEqualTo(WorkflowStatus.APPROVED.name());
+        assertThat(workflowService.getWorkflowHistory(id))
+                .extracting(ApprovalHistoryResponse::level)
+                .containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many racing submits open the inbox entry, the rest losing cleanly")
+    void racingSubmitsApplyOnce() throws Exception {
+        Long id = fixtures.createWorkflow("Double submit", creator, approver);
+
+        List<Throwable> outcomes = race(() -> workflowService.submitWorkflow(id, creator));
+
+        assertThat(outcomes).filteredOn(outcome -> outcome == null).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> outcome != null)
+                .allMatch(outcome -> outcome instanceof WorkflowException || outcome instanceof ConcurrentUpdateException);
+        assertThat(workflowService.getInbox(approver.getUsername(), KeysetPageRequest.of(null, 10, true)).totalElements())
+                .isEqualTo(1);
+        assertThat(workflowService.getWorkflowHistory(id)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should let either an approve or a racing cancel win, leaving status, step, inbox and history in agreement")
+    void approveRacingCancelAppliesOne() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            Long id = fixtures.createWorkflow("Approve or cancel " + round, creator, approver);
+            workflowService.submitWorkflow(id, creator);
+
+            // Approvals first, then as many cancels, all started at once
+            List<Callable<?>> calls = new ArrayList<>();
+            for (int i = 0; i < RACERS; i++) {
+                calls.add(i < RACERS / 2
+                        ? () -> workflowService.processApproval(
+                                id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), approver.getUsername())
+                        : () -> workflowService.cancelWorkflow(id, creator));
+            }
+            List<Throwable> outcomes = race(calls);
+
+            assertThat(outcomes).filteredOn(outcome -> outcome == null).hasSize(1);
+            assertThat(outcomes).filteredOn(outcome -> outcome != null)
+                    .allMatch(outcome -> outcome instanceof WorkflowException || outcome instanceof ConcurrentUpdateException);
+            boolean approved = outcomes.subList(0, RACERS / 2).contains(null);
+            WorkflowResponse workflow = workflowService.getWorkflowById(id);
+            assertThat(workflow.status()).isEqualTo(approved ? "APPROVED" : "CANCELLED");
+            assertThat(workflow.approvalSteps().get(0).status()).isEqualTo(approved ? "APPROVED" : "PENDING");
+            assertThat(workflowService.getInbox(approver.getUsername(), KeysetPageRequest.of(null, 10, true)).totalElements())
+                    .isZero();
+            assertThat(workflowService.getWorkflowHistory(id))
+                    .extracting(ApprovalHistoryResponse::action, ApprovalHistoryResponse::level)
+                    .containsExactly(tuple(approved ? "APPROVE" : "REJECT", 1), tuple("APPROVE", 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply overlapping batches sent in opposite orders once each, without deadlocking")
+    void overlappingBatchesApplyOnce() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            List<BatchApprovalRequest.Item> items = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                Long id = fixtures.createWorkflow("Batch " + round + "-" + i, creator, approver);
+                workflowService.submitWorkflow(id, creator);
+                items.add(new BatchApprovalRequest.Item(id, ApprovalAction.APPROVE, null));
+            }
+            List<BatchApprovalRequest.Item> reversed = new ArrayList<>(items);
+            Collections.reverse(reversed);
+            Queue<BulkItemResult> results = new ConcurrentLinkedQueue<>();
+
+            List<Throwable> outcomes = race(List.of(
+                    () -> results.addAll(workflowService.processApprovals(items, approver.getUsername())),
+                    () -> results.addAll(workflowService.processApprovals(reversed, approver.getUsername()))));
+
+            assertThat(outcomes).containsOnlyNulls();
+            assertThat(results).filteredOn(result -> !result.isFailed())
+                    .extracting(BulkItemResult::id)
+                    .containsExactlyInAnyOrderElementsOf(items.stream().map(BatchApprovalRequest.Item::workflowId).toList());
+        }
+    }
+
+    /** Runs {@code RACERS} copies of the call at once; each outcome is null on success, else the exception. */
+    private List<Throwable> race(Callable<?> call) throws Exception {
+        return race(Collections.nCopies(RACERS, call));
+    }
+
+    /** Runs the calls at once; each outcome, in the order of the calls, is null on success, else the exception. */
+    private List<Throwable> race(List<Callable<?>> calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Throwable>> futures = new ArrayList<>();
+            for (Callable<?> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        call.call();
+                        return null;
+                    } catch (Exception e) {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+            List<Throwable> outcomes = new ArrayList<>();
+            for (Future<Throwable> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.workflow.integration;
+
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.dto.request.BatchApprovalRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.service.UserService;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Conditional GET Integration Tests")
+class ConditionalGetIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private WorkflowService workflowService;
+    @Autowired private UserService userService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private User creator;
+    private User firstApprover;
+    private User secondApprover;
+    private User bystander;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("etag-creator-" + suffix, Role.EMPLOYEE);
+        firstApprover = fixtures.createUser("etag-first-" + suffix, Role.MANAGER);
+        secondApprover = fixtures.createUser("etag-second-" + suffix, Role.ADMIN);
+        bystander = fixtures.createUser("etag-bystander-" + suffix, Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged workflow and its history, and a new ETag once it changes")
+    void shouldRevalidateWorkflow() throws Exception {
+        Long id = fixtures.createWorkflow("Laptop", creator.getUsername(), firstApprover, secondApprover);
+        String path = "/api/workflows/" + id;
+
+        String etag = etag(creator, path);
+        String historyEtag = etag(creator, path + "/history");
+        mockMvc.perform(get(path).with(as(creator)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get(path + "/history").with(as(firstApprover)).header(HttpHeaders.IF_NONE_MATCH, historyEtag))
+                .andExpect(status().isNotModified());
+
+        workflowService.submitWorkflow(id, creator.getUsername());
+
+        String submitted = etag(creator, path);
+        assertThat(submitted).isNotEqualTo(etag);
+        assertThat(etag(creator, path + "/history")).isNotEqualTo(historyEtag);
+        mockMvc.perform(get(path).with(as(creator)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"));
+
+        // The response embeds the approvers, active flag included
+        userService.deactivateUser(secondApprover.getId());
+        assertThat(etag(creator, path)).isNotEqualTo(submitted);
+    }
+
+    @Test
+    @DisplayName("Should change the list ETags of exactly the users a write concerns")
+    void shouldStampAffectedUsers() throws Exception {
+        String myWorkflows = etag(creator, "/api/workflows/my");
+        String firstInbox = etag(firstApprover, "/api/workflows/pending-for-me?cursor=");
+        String secondInbox = etag(secondApprover, "/api/workflows/pending-for-me");
+        String bystanderInbox = etag(bystander, "/api/workflows/pending-for-me");
+        mockMvc.perform(get("/api/workflows/my").with(as(creator)).header(HttpHeaders.IF_NONE_MATCH, myWorkflows))
+                .andExpect(status().isNotModified());
+
+        Long id = fixtures.createWorkflow("Monitor", creator.getUsername(), firstApprover, secondApprover);
+        assertThat(etag(creator, "/api/workflows/my")).isNotEqualTo(myWorkflows);
+        assertThat(etag(firstApprover, "/api/workflows/pending-for-me?cursor=")).isEqualTo(firstInbox);
+
+        workflowService.submitWorkflow(id, creator.getUsername());
+        String firstWithWorkflow = etag(firstApprover, "/api/workflows/pending-for-me?cursor=");
+        assertThat(firstWithWorkflow).isNotEqualTo(firstInbox);
+        assertThat(etag(secondApprover, "/api/workflows/pending-for-me")).isEqualTo(secondInbox);
+
+        workflowService.processApprovals(List.of(new BatchApprovalRequest.Item(id, ApprovalAction.APPROVE, null)),
+                firstApprover.getUsername());
+        assertThat(etag(firstApprover, "/api/workflows/pending-for-me?cursor=")).isNotEqualTo(firstWithWorkflow);
+        String secondWithWorkflow = etag(secondApprover, "/api/workflows/pending-for-me");
+        assertThat(secondWithWorkflow).isNotEqualTo(secondInbox);
+
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.APPROVE, null), secondApprover.getUsername());
+        assertThat(etag(secondApprover, "/api/workflows/pending-for-me")).isNotEqualTo(secondWithWorkflow);
+        assertThat(etag(bystander, "/api/workflows/pending-for-me")).isEqualTo(bystanderInbox);
+    }
+
+    @Test
+    @DisplayName("Should never match one user's list ETag against another's")
+    void shouldScopeListEtagsToTheUser() throws Exception {
+        String creatorEtag = etag(creator, "/api/workflows/my");
+
+        mockMvc.perform(get("/api/workflows/my").with(as(bystander)).header(HttpHeaders.IF_NONE_MATCH, creatorEtag))
+                .andExpect(status().isOk());
+    }
+
+    private String etag(User caller, String path) throws Exception {
+        return mockMvc.perform(get(path).with(as(caller)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static RequestPostProcessor as(User caller) {
+        return user(caller.getUsername()).roles(caller.getRole().name());
+    }
+}
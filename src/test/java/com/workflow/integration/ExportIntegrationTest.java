@@ -0,0 +1,127 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Export Integration Tests")
+class ExportIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private User approver;
+    private LocalDateTime since;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        since = LocalDateTime.now();
+        Thread.sleep(5);
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("export-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        approver = fixtures.createUser("export-approver-" + suffix, Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should stream each workflow with its steps as one NDJSON line, oldest first")
+    void shouldExportWorkflowsAsNdjson() throws Exception {
+        Long first = fixtures.createWorkflow("First", creator, approver);
+        Long second = fixtures.createWorkflow("Second", creator, approver);
+        approve(second);
+
+        List<JsonNode> all = export("/api/export/workflows?from=" + since);
+        assertThat(all).extracting(line -> line.get("id").asLong()).containsExactly(first, second);
+        assertThat(all.get(0).get("createdBy").get("username").asText()).isEqualTo(creator);
+        assertThat(all.get(1).get("approvalSteps")).hasSize(1);
+        assertThat(all.get(1).get("approvalSteps").get(0).get("approver").get("id").asLong()).isEqualTo(approver.getId());
+
+        assertThat(export("/api/export/workflows?status=APPROVED&from=" + since))
+                .extracting(line -> line.get("id").asLong())
+                .containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("Should stream history entries with their workflow, filtered by the workflow's status")
+    void shouldExportHistory() throws Exception {
+        Long id = fixtures.createWorkflow("Audited", creator, approver);
+        approve(id);
+        Long pending = fixtures.createWorkflow("Pending", creator, approver);
+        workflowService.submitWorkflow(pending, creator);
+
+        List<JsonNode> entries = export("/api/export/history?from=" + since);
+        assertThat(entries).extracting(line -> line.get("workflowId").asLong()).containsExactly(id, id, pending);
+        assertThat(entries).extracting(line -> line.get("toStatus").asText())
+                .containsExactly("IN_PROGRESS", "APPROVED", "IN_PROGRESS");
+        assertThat(entries.get(1).get("actor").get("username").asText()).isEqualTo(approver.getUsername());
+
+        assertThat(export("/api/export/history?status=APPROVED&from=" + since))
+                .extracting(line -> line.get("workflowId").asLong(), line -> line.get("toStatus").asText())
+                .containsExactly(tuple(id, "IN_PROGRESS"), tuple(id, "APPROVED"));
+        assertThat(export("/api/export/history?status=IN_PROGRESS&from=" + since))
+                .extracting(line -> line.get("workflowId").asLong())
+                .containsExactly(pending);
+    }
+
+    @Test
+    @DisplayName("Should answer invalid filters and non-admins with the usual JSON errors")
+    void shouldRejectInvalidExports() throws Exception {
+        mockMvc.perform(get("/api/export/workflows?from=" + since + "&to=" + since).with(admin()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("'from' must be before 'to'"));
+        mockMvc.perform(get("/api/export/workflows?status=BOGUS").with(admin()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(get("/api/export/history").with(user(creator).roles("EMPLOYEE")))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<JsonNode> export(String url) throws Exception {
+        String body = mockMvc.perform(get(url).with(admin()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private RequestPostProcessor admin() {
+        return user(approver.getUsername()).roles("ADMIN");
+    }
+
+    private void approve(Long id) {
+        workflowService.submitWorkflow(id, creator);
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), approver.getUsername());
+    }
+}
@@ -0,0 +1,44 @@
+package com.workflow.integration;
+
+import com.workflow.dto.request.CreateWorkflowRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import com.workflow.repository.UserRepository;
+import com.workflow.service.WorkflowService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Users and workflows the integration tests build on. Picked up by the application's component scan, so
+ * every {@code @SpringBootTest} can autowire it without changing the cached context.
+ */
+@Component
+@RequiredArgsConstructor
+public class IntegrationFixtures {
+
+    private final UserRepository userRepository;
+    private final WorkflowService workflowService;
+
+    /** A user whose full name differs from the username, so responses can tell the two apart. */
+    public User createUser(String username, Role role) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("encoded")
+                .fullName("Full " + username)
+                .role(role)
+                .build());
+    }
+
+    /** A draft workflow with one step per approver, at levels 1, 2, ... in the order given. */
+    public Long createWorkflow(String title, String creator, User... approvers) {
+        List<CreateWorkflowRequest.ApprovalStepRequest> steps = new ArrayList<>();
+        for (int i = 0; i < approvers.length; i++) {
+            steps.add(new CreateWorkflowRequest.ApprovalStepRequest(approvers[i].getId(), i + 1, null));
+        }
+        return workflowService.createWorkflow(new CreateWorkflowRequest(title, null, null, steps), creator).id();
+    }
+}
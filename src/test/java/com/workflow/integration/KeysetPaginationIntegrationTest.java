@@ -0,0 +1,92 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Keyset Pagination Integration Tests")
+class KeysetPaginationIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private String creator;
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        creator = "keyset-" + System.nanoTime();
+        User approver = fixtures.createUser(creator, Role.MANAGER);
+        for (int i = 0; i < 5; i++) {
+            createdIds.add(fixtures.createWorkflow("Keyset " + i, creator, approver));
+        }
+    }
+
+    @Test
+    @DisplayName("Should walk every row exactly once, newest first, following nextCursor")
+    void shouldWalkAllPagesWithCursor() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        boolean first = true;
+        while (cursor != null) {
+            JsonNode data = getData("/api/workflows/my?size=2&includeTotal=" + first + "&cursor=" + cursor);
+            if (first) {
+                assertThat(data.get("totalElements").asLong()).isEqualTo(5);
+                first = false;
+            } else {
+                assertThat(data.has("totalElements")).isFalse();
+            }
+            data.get("content").forEach(workflow -> seen.add(workflow.get("id").asLong()));
+            cursor = data.get("hasNext").asBoolean() ? data.get("nextCursor").asText() : null;
+        }
+
+        List<Long> newestFirst = new ArrayList<>(createdIds);
+        Collections.reverse(newestFirst);
+        assertThat(seen).containsExactlyElementsOf(newestFirst);
+    }
+
+    @Test
+    @DisplayName("Should clamp page size to the configured maximum")
+    void shouldClampPageSize() throws Exception {
+        JsonNode data = getData("/api/workflows/my?cursor=&size=100000");
+        assertThat(data.get("size").asInt()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a malformed cursor")
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/workflows/my").param("cursor", "not-a-cursor")
+                        .with(user(creator).roles("MANAGER")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private JsonNode getData(String url) throws Exception {
+        String body = mockMvc.perform(get(url).with(user(creator).roles("MANAGER")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+}
@@ -0,0 +1,130 @@
+package com.workflow.integration;
+
+import com.workflow.datasource.ReplicaLagMonitor;
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import com.workflow.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.read-your-writes-window=1m",
+        "app.datasource.routing.max-replica-lag=5s",
+        "app.datasource.routing.lag-check-interval=1h",
+        "app.datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.routing.replicas[0].lag-query=SELECT seconds FROM replica_lag"
+})
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Integration Tests")
+class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired private JdbcTemplate primary;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate replica;
+    private String replicaOnlyUser;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(replicaLagMonitor.replicaDataSources().get("replica-1"));
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE PRECISION)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+        if (replica.queryForObject("SELECT COUNT(*) FROM information_schema.tables "
+                + "WHERE table_schema = 'PUBLIC' AND table_name = 'USERS'", Long.class) == 0) {
+            primary.queryForList("SCRIPT NODATA TABLE users", String.class).stream()
+                    .filter(statement -> statement.startsWith("CREATE MEMORY TABLE"))
+                    .forEach(replica::execute);
+        }
+        replicaOnlyUser = "replica-only-" + System.nanoTime();
+        replica.update("INSERT INTO users (id, username, email, password, full_name, role, active) "
+                        + "VALUES (?, ?, ?, 'x', 'Replica', 'EMPLOYEE', TRUE)",
+                System.nanoTime() % 1_000_000_000, replicaOnlyUser, replicaOnlyUser + "@test.com");
+        replicaLagMonitor.refresh();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from a replica within the lag limit")
+    void shouldReadFromReplica() {
+        assertThat(replicaLagMonitor.usableReplicas()).containsExactly("replica-1");
+        assertThat(readOnly(() -> userRepository.findByUsername(replicaOnlyUser))).isPresent();
+        assertThat(readWrite(() -> userRepository.findByUsername(replicaOnlyUser))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary only")
+    void shouldWriteToPrimary() {
+        String username = "primary-write-" + System.nanoTime();
+        readWrite(() -> userRepository.save(user(username)));
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM users WHERE username = ?", Long.class, username)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM users WHERE username = ?", Long.class, username)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary after their write commits")
+    void shouldReadYourOwnWrites() {
+        String username = "pinned-" + System.nanoTime();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+
+        assertThat(readOnly(() -> userRepository.findByUsername(replicaOnlyUser))).isPresent();
+        readWrite(() -> userRepository.save(user(username)));
+
+        assertThat(readOnly(() -> userRepository.findByUsername(username))).isPresent();
+        assertThat(readOnly(() -> userRepository.findByUsername(replicaOnlyUser))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags beyond the limit")
+    void shouldSkipLaggingReplica() {
+        replica.update("UPDATE replica_lag SET seconds = 30");
+        replicaLagMonitor.refresh();
+
+        assertThat(replicaLagMonitor.usableReplicas()).isEmpty();
+        assertThat(readOnly(() -> userRepository.findByUsername(replicaOnlyUser))).isEmpty();
+    }
+
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
+
+    private <T> T readWrite(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("encoded")
+                .fullName(username)
+                .role(Role.EMPLOYEE)
+                .build();
+    }
+}
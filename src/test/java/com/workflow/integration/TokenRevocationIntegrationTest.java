@@ -0,0 +1,86 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.security.TokenRevocationRegistry;
+import com.workflow.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Token revocation tests")
+class TokenRevocationIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserService userService;
+    @Autowired private TokenRevocationRegistry tokenRevocations;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    private AuthRequests auth;
+
+    @BeforeEach
+    void setUp() {
+        auth = new AuthRequests(mockMvc, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should reject every earlier token after logout, and accept a fresh login")
+    void shouldRevokeTokensOnLogout() throws Exception {
+        String username = "logout-" + System.nanoTime();
+        String first = auth.register(username).get("token").asText();
+        String second = auth.login(username);
+        expectMe(first, status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + second))
+                .andExpect(status().isOk());
+
+        expectMe(first, status().isForbidden());
+        expectMe(second, status().isForbidden());
+        expectMe(auth.login(username), status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should reject a deactivated user's token straight away")
+    void shouldRevokeTokensOnDeactivation() throws Exception {
+        JsonNode user = auth.register("deactivated-" + System.nanoTime());
+        String token = user.get("token").asText();
+        expectMe(token, status().isOk());
+
+        userService.deactivateUser(user.get("userId").asLong());
+
+        expectMe(token, status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should pick up revocations made by another instance on refresh")
+    void shouldPickUpRemoteRevocations() throws Exception {
+        JsonNode user = auth.register("remote-" + System.nanoTime());
+        String token = user.get("token").asText();
+        expectMe(token, status().isOk());
+
+        jdbcTemplate.update("UPDATE users SET token_epoch = token_epoch + 1, tokens_revoked_at = LOCALTIMESTAMP "
+                + "WHERE id = ?", user.get("userId").asLong());
+        expectMe(token, status().isOk());
+
+        tokenRevocations.refresh();
+        expectMe(token, status().isForbidden());
+    }
+
+    private void expectMe(String token, ResultMatcher expected) throws Exception {
+        mockMvc.perform(get("/api/users/me").header("Authorization", "Bearer " + token)).andExpect(expected);
+    }
+}
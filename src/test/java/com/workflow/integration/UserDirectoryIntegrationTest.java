@@ -0,0 +1,115 @@
+package com.workflow.integration;
+
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import com.workflow.repository.UserRepository;
+import com.workflow.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("User directory cache tests")
+class UserDirectoryIntegrationTest {
+
+    @Autowired private UserService userService;
+    @Autowired private UserDetailsService userDetailsService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String username = "cached-" + System.nanoTime();
+        user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("encoded")
+                .fullName(username)
+                .role(Role.EMPLOYEE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should resolve a user repeatedly with one query, counting hits and misses")
+    void shouldServeRepeatedLookupsFromCache() {
+        double hits = gets("users.by-username", "hit");
+        double misses = gets("users.by-username", "miss");
+
+        long statements = countStatements(() -> {
+            for (int i = 0; i < 5; i++) {
+                userDetailsService.loadUserByUsername(user.getUsername());
+                userService.findIdByUsername(user.getUsername());
+            }
+        });
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(gets("users.by-username", "miss")).isEqualTo(misses + 1);
+        assertThat(gets("users.by-username", "hit")).isEqualTo(hits + 9);
+    }
+
+    @Test
+    @DisplayName("Should load only the users not cached yet when resolving several by id")
+    void shouldLoadOnlyMissingUsersInBulk() {
+        User other = userRepository.save(User.builder()
+                .username(user.getUsername() + "-other")
+                .email(user.getUsername() + "-other@test.com")
+                .password("encoded")
+                .fullName("Other")
+                .role(Role.MANAGER)
+                .build());
+        userService.findEntityById(user.getId());
+
+        long statements = countStatements(() ->
+                assertThat(userService.findEntitiesByIds(List.of(user.getId(), other.getId()))).hasSize(2));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(countStatements(() -> userService.findEntitiesByIds(List.of(user.getId(), other.getId()))))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict a user under both keys when a change to it commits")
+    void shouldEvictOnUpdate() {
+        assertThat(userDetailsService.loadUserByUsername(user.getUsername()).isEnabled()).isTrue();
+        assertThat(userService.findEntityById(user.getId()).getRole()).isEqualTo(Role.EMPLOYEE);
+
+        userService.deactivateUser(user.getId());
+        assertThat(userDetailsService.loadUserByUsername(user.getUsername()).isEnabled()).isFalse();
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setRole(Role.MANAGER));
+        assertThat(userService.findEntityById(user.getId()).getRole()).isEqualTo(Role.MANAGER);
+        assertThat(userDetailsService.loadUserByUsername(user.getUsername()).getAuthorities())
+                .extracting(Object::toString).containsExactly("ROLE_MANAGER");
+    }
+
+    private double gets(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+
+    private long countStatements(Runnable action) {
+        long before = statistics.getPrepareStatementCount();
+        action.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
@@ -0,0 +1,143 @@
+package com.workflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import com.workflow.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.bulk.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("User Import Integration Tests")
+class UserImportIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+
+    private String suffix;
+    private User existing;
+
+    @BeforeEach
+    void setUp() {
+        suffix = Long.toString(System.nanoTime());
+        existing = userRepository.save(User.builder()
+                .username("import-existing-" + suffix)
+                .email("import-existing-" + suffix + "@test.com")
+                .password("encoded")
+                .fullName("Existing")
+                .role(Role.EMPLOYEE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should create the valid CSV rows across chunks and report each invalid one")
+    void shouldImportCsv() throws Exception {
+        String csv = "\uFEFFEmail,username,fullName,password,role\r\n"
+                + row("ann", "\"Doe, Ann\"", "MANAGER") + "\r\n"
+                + "\r\n"
+                + row("bob", "\"Bob \"\"the\"\" Builder\"", "") + "\r\n"
+                + "," + existing.getUsername() + ",Dup,secret1,\r\n"
+                + existing.getEmail() + ",fresh-" + suffix + ",Dup,secret1,\r\n"
+                + row("ann", "Again", "") + "\r\n"
+                + row("cy", "Cy", "OWNER") + "\r\n"
+                + "not-an-email,dee-" + suffix + ",Dee,secret1,\r\n"
+                + "too,few,fields\r\n"
+                + row("eve", "\"Eve\nSecond line\"", "admin") + "\n"
+                + "broken@test.com,\"broken";
+
+        JsonNode report = importUsers("text/csv", csv);
+
+        assertThat(report.get("received").asInt()).isEqualTo(10);
+        assertThat(report.get("succeeded").asInt()).isEqualTo(3);
+        JsonNode items = report.get("items");
+        assertThat(items).extracting(item -> item.get("outcome").asText()).containsExactly(
+                "CREATED", "CREATED", "FAILED", "FAILED", "FAILED", "FAILED", "FAILED", "FAILED", "CREATED", "FAILED");
+        assertThat(items.get(2).get("error").asText()).contains("email");
+        assertThat(items.get(3).get("error").asText()).isEqualTo("Email already registered: " + existing.getEmail());
+        assertThat(items.get(4).get("error").asText()).contains("more than once");
+        assertThat(items.get(5).get("error").asText()).contains("unknown role 'OWNER'");
+        assertThat(items.get(6).get("error").asText()).contains("email");
+        assertThat(items.get(7).get("error").asText()).isEqualTo("Expected 5 fields, found 3");
+        assertThat(items.get(9).get("error").asText()).startsWith("Malformed CSV");
+
+        User ann = userRepository.findByUsername("ann-" + suffix).orElseThrow();
+        assertThat(ann.getId()).isEqualTo(items.get(0).get("id").asLong());
+        assertThat(ann.getFullName()).isEqualTo("Doe, Ann");
+        assertThat(ann.getRole()).isEqualTo(Role.MANAGER);
+        assertThat(ann.isActive()).isTrue();
+        assertThat(passwordEncoder.matches("secret-ann", ann.getPassword())).isTrue();
+        User bob = userRepository.findByUsername("bob-" + suffix).orElseThrow();
+        assertThat(bob.getFullName()).isEqualTo("Bob \"the\" Builder");
+        assertThat(bob.getRole()).isEqualTo(Role.EMPLOYEE);
+        assertThat(userRepository.findByUsername("eve-" + suffix).orElseThrow().getFullName()).isEqualTo("Eve\nSecond line");
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON, failing an unreadable line alone")
+    void shouldImportNdjson() throws Exception {
+        String ndjson = json("fay") + "\n{\"username\": \n" + json("gus") + "\n";
+
+        JsonNode items = importUsers("application/x-ndjson", ndjson).get("items");
+
+        assertThat(items).extracting(item -> item.get("outcome").asText()).containsExactly("CREATED", "FAILED", "CREATED");
+        assertThat(items.get(1).get("error").asText()).startsWith("Unreadable user");
+        assertThat(userRepository.findByUsername("gus-" + suffix)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV header missing or repeating a column, and non-admins")
+    void shouldRejectBadHeaderAndNonAdmins() throws Exception {
+        mockMvc.perform(post("/api/users/import").with(user("admin").roles("ADMIN"))
+                        .contentType("text/csv")
+                        .content("username,email,password\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        mockMvc.perform(post("/api/users/import").with(user("admin").roles("ADMIN"))
+                        .contentType("text/csv")
+                        .content("username,email,password,fullName,Email\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV column 'email' appears more than once in the header"));
+
+        mockMvc.perform(post("/api/users/import").with(user("manager").roles("MANAGER"))
+                        .contentType("text/csv")
+                        .content("username,email,password,fullName\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode importUsers(String contentType, String body) throws Exception {
+        String response = mockMvc.perform(post("/api/users/import").with(user("admin").roles("ADMIN"))
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("data");
+    }
+
+    /** Email, username, fullName, password and role, in the column order of the header above. */
+    private String row(String name, String fullName, String role) {
+        return name + "-" + suffix + "@test.com," + name + "-" + suffix + "," + fullName + ",secret-" + name + "," + role;
+    }
+
+    private String json(String name) {
+        return "{\"username\":\"" + name + "-" + suffix + "\",\"email\":\"" + name + "-" + suffix
+                + "@test.com\",\"password\":\"secret1\",\"fullName\":\"" + name + "\"}";
+    }
+}
@@ -0,0 +1,119 @@
+package com.workflow.integration;
+
+import com.workflow.dto.request.ApprovalActionRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.ApprovalAction;
+import com.workflow.enums.Role;
+import com.workflow.security.JwtTokenProvider;
+import com.workflow.service.WorkflowService;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Workflow Events Integration Tests")
+class WorkflowEventsIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+
+    private User creator;
+    private User approver;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("events-creator-" + suffix, Role.EMPLOYEE);
+        approver = fixtures.createUser("events-approver-" + suffix, Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Should push committed transitions to the approver's and the creator's streams")
+    void shouldPushCommittedTransitions() throws Exception {
+        MockHttpServletResponse approverStream = subscribe(approver);
+        MockHttpServletResponse creatorStream = subscribe(creator);
+
+        Long id = fixtures.createWorkflow("Monitor", creator.getUsername(), approver);
+        workflowService.submitWorkflow(id, creator.getUsername());
+        workflowService.processApproval(id, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), approver.getUsername());
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(approverStream.getContentAsString())
+                    .contains("event:inbox-added", "event:inbox-removed", "\"workflowId\":" + id);
+            assertThat(creatorStream.getContentAsString())
+                    .contains("\"status\":\"IN_PROGRESS\"", "\"status\":\"APPROVED\"")
+                    .doesNotContain("inbox-");
+        });
+    }
+
+    @Test
+    @DisplayName("Should ask a client resuming from an unknown event id to resync")
+    void shouldAskUnknownResumeToResync() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/events")
+                        .with(user(approver.getUsername()).roles("MANAGER"))
+                        .header("Last-Event-ID", "elsewhere-42")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(stream.getContentAsString()).contains("event:resync"));
+    }
+
+    @Test
+    @DisplayName("Should close a bearer-token stream cleanly when it times out")
+    void shouldCloseBearerTokenStream() throws Exception {
+        String token = jwtTokenProvider.generateToken(approver.getId(), approver.getUsername(), approver.getRole(),
+                approver.getTokenEpoch());
+        MvcResult started = mockMvc.perform(get("/api/events")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(started.getResponse().getContentAsString()).startsWith(":connected"));
+
+        MockAsyncContext async = (MockAsyncContext) started.getRequest().getAsyncContext();
+        for (AsyncListener listener : async.getListeners()) {
+            listener.onTimeout(new AsyncEvent(async));
+        }
+
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+
+    private MockHttpServletResponse subscribe(User subscriber) throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/events")
+                        .with(user(subscriber.getUsername()).roles(subscriber.getRole().name()))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        // Transitions committed before the subscription is registered are not pushed
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(stream.getContentAsString()).startsWith(":connected"));
+        return stream;
+    }
+}
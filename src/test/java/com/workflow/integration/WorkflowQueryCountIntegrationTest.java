@@ -0,0 +1,111 @@
+package com.workflow.integration;
+
+import com.workflow.dto.response.ApprovalHistoryResponse;
+import com.workflow.dto.response.WorkflowResponse;
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import com.workflow.service.WorkflowService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Workflow list query count tests")
+class WorkflowQueryCountIntegrationTest {
+
+    @Autowired private WorkflowService workflowService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private Statistics statistics;
+    private String creator;
+    private String busyApprover;
+    private String quietApprover;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("qc-creator-" + suffix, Role.EMPLOYEE).getUsername();
+        User busy = fixtures.createUser("qc-busy-" + suffix, Role.MANAGER);
+        User quiet = fixtures.createUser("qc-quiet-" + suffix, Role.MANAGER);
+        busyApprover = busy.getUsername();
+        quietApprover = quiet.getUsername();
+
+        for (int i = 0; i < 8; i++) {
+            User firstApprover = i == 0 ? quiet : busy;
+            Long id = fixtures.createWorkflow("Workflow " + i, creator, firstApprover, quiet);
+            workflowService.submitWorkflow(id, creator);
+        }
+    }
+
+    @Test
+    @DisplayName("Should load a page of my workflows with the same number of statements regardless of size")
+    void myWorkflowsPageCostIsIndependentOfSize() {
+        long small = countStatements(() -> workflowService.getMyWorkflows(creator, page(2)));
+        long large = countStatements(() -> workflowService.getMyWorkflows(creator, page(8)));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("Should load a page of all workflows and by status with a fixed number of statements")
+    void allAndByStatusPageCostIsIndependentOfSize() {
+        assertThat(countStatements(() -> workflowService.getAllWorkflows(page(8))))
+                .isEqualTo(countStatements(() -> workflowService.getAllWorkflows(page(2))));
+        assertThat(countStatements(() -> workflowService.getWorkflowsByStatus("IN_PROGRESS", page(8))))
+                .isEqualTo(countStatements(() -> workflowService.getWorkflowsByStatus("IN_PROGRESS", page(2))));
+    }
+
+    @Test
+    @DisplayName("Should load pending workflows with a fixed number of statements")
+    void pendingCostIsIndependentOfSize() {
+        assertThat(workflowService.getPendingWorkflowsForApprover(busyApprover)).hasSize(7);
+        assertThat(workflowService.getPendingWorkflowsForApprover(quietApprover)).hasSize(1);
+
+        assertThat(countStatements(() -> workflowService.getPendingWorkflowsForApprover(busyApprover)))
+                .isEqualTo(countStatements(() -> workflowService.getPendingWorkflowsForApprover(quietApprover)));
+    }
+
+    @Test
+    @DisplayName("Should serve workflow reads without hydrating any entity")
+    void readsDoNotHydrateEntities() {
+        Long id = workflowService.getMyWorkflows(creator, page(1)).content().get(0).id();
+
+        statistics.clear();
+        WorkflowResponse workflow = workflowService.getWorkflowById(id);
+        List<ApprovalHistoryResponse> history = workflowService.getWorkflowHistory(id);
+        workflowService.getAllWorkflows(page(8));
+
+        assertThat(workflow.approvalSteps()).hasSize(2);
+        assertThat(workflow.createdBy().username()).isEqualTo(creator);
+        assertThat(history).singleElement()
+                .satisfies(entry -> assertThat(entry.toStatus()).isEqualTo("IN_PROGRESS"));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private long countStatements(Runnable read) {
+        statistics.clear();
+        read.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Pageable page(int size) {
+        return PageRequest.of(0, size, Sort.by("createdAt").descending());
+    }
+}
@@ -0,0 +1,117 @@
+package com.workflow.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.workflow.dto.request.CreateWorkflowRequest;
+import com.workflow.entity.User;
+import com.workflow.enums.Role;
+import com.workflow.service.WorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Workflow summary and sparse fieldset Integration Tests")
+class WorkflowSummaryIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private WorkflowService workflowService;
+    @Autowired private IntegrationFixtures fixtures;
+
+    private User creator;
+    private User approver;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        creator = fixtures.createUser("summary-creator-" + suffix, Role.EMPLOYEE);
+        approver = fixtures.createUser("summary-approver-" + suffix, Role.MANAGER);
+        for (int i = 0; i < 3; i++) {
+            workflowService.createWorkflow(new CreateWorkflowRequest("Purchase " + i, "Quarterly hardware refresh",
+                    "{\"costCentre\":\"CC-1200\"}", List.of(
+                            new CreateWorkflowRequest.ApprovalStepRequest(approver.getId(), 1, "Manager review"))),
+                    creator.getUsername());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return only the summary properties, and a small fraction of the full page")
+    void shouldReturnSummaries() throws Exception {
+        String summaries = mockMvc.perform(get("/api/workflows/my").param("fields", "summary").with(as(creator)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(3))
+                .andExpect(jsonPath("$.data.content[0].title").value(startsWith("Purchase ")))
+                .andExpect(jsonPath("$.data.content[0].status").value("DRAFT"))
+                .andExpect(jsonPath("$.data.content[0].currentLevel").value(0))
+                .andExpect(jsonPath("$.data.content[0].totalLevels").value(1))
+                .andExpect(jsonPath("$.data.content[0].createdByName").value(creator.getFullName()))
+                .andExpect(jsonPath("$.data.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].metadata").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].approvalSteps").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String full = mockMvc.perform(get("/api/workflows/my").with(as(creator)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(summaries.length()).isLessThan(full.length() / 3);
+    }
+
+    @Test
+    @DisplayName("Should return exactly the named fields plus id, and reject unknown ones")
+    void shouldSelectNamedFields() throws Exception {
+        mockMvc.perform(get("/api/workflows/my").param("fields", "title, createdBy,metadata")
+                        .with(as(creator)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").isNumber())
+                .andExpect(jsonPath("$.data.content[0].title").isString())
+                .andExpect(jsonPath("$.data.content[0].createdBy").value(creator.getUsername()))
+                .andExpect(jsonPath("$.data.content[0].metadata").value(containsString("CC-1200")))
+                .andExpect(jsonPath("$.data.content[0].*", hasSize(4)));
+
+        mockMvc.perform(get("/api/workflows").param("fields", "title,password").with(as(approver)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("password")));
+    }
+
+    @Test
+    @DisplayName("Should page summaries by cursor even when createdAt is not selected")
+    void shouldPageSummariesByCursor() throws Exception {
+        List<String> titles = new ArrayList<>();
+        String cursor = "";
+        boolean hasNext;
+        do {
+            String body = mockMvc.perform(get("/api/workflows/my").param("fields", "title")
+                            .param("cursor", cursor).param("size", "2").with(as(creator)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].createdAt").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            titles.addAll(JsonPath.read(body, "$.data.content[*].title"));
+            hasNext = JsonPath.read(body, "$.data.hasNext");
+            if (hasNext) {
+                cursor = JsonPath.read(body, "$.data.nextCursor");
+            }
+        } while (hasNext);
+
+        assertThat(titles).containsExactly("Purchase 2", "Purchase 1", "Purchase 0");
+    }
+
+    private static RequestPostProcessor as(User caller) {
+        return user(caller.getUsername()).roles(caller.getRole().name());
+    }
+}
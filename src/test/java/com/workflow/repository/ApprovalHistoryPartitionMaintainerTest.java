@@ -0,0 +1,62 @@
+package com.workflow.repository;
+
+import com.workflow.config.HistoryPartitionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApprovalHistoryPartitionMaintainer Tests")
+class ApprovalHistoryPartitionMaintainerTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    private HistoryPartitionProperties properties;
+    private ApprovalHistoryPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HistoryPartitionProperties();
+        properties.setMonthsAhead(2);
+        maintainer = new ApprovalHistoryPartitionMaintainer(jdbcTemplate, properties);
+        lenient().when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM approval_history_default", Long.class))
+                .thenReturn(0L);
+    }
+
+    @Test
+    @DisplayName("Should ensure the current month's partition and the configured months ahead")
+    void shouldEnsureCurrentAndFuturePartitions() {
+        maintainer.maintain();
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= 2; i++) {
+            verify(jdbcTemplate).queryForObject("SELECT ensure_approval_history_partition(?)", String.class,
+                    current.plusMonths(i).atDay(1));
+        }
+        verify(jdbcTemplate, never()).queryForList(contains("detach"), eq(String.class), any());
+    }
+
+    @Test
+    @DisplayName("Should detach partitions older than the retention window")
+    void shouldDetachPartitionsOutsideRetention() {
+        properties.setRetentionMonths(12);
+        LocalDateTime cutoff = YearMonth.now().minusMonths(12).atDay(1).atStartOfDay();
+        when(jdbcTemplate.queryForList("SELECT detach_approval_history_partitions(?)", String.class, cutoff))
+                .thenReturn(List.of("approval_history_2020_01"));
+
+        maintainer.maintain();
+
+        verify(jdbcTemplate).queryForList("SELECT detach_approval_history_partitions(?)", String.class, cutoff);
+    }
+}
@@ -0,0 +1,65 @@
+package com.workflow.repository;
+
+import com.workflow.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Pooled sequence id allocator tests")
+class PooledSequenceIdAllocatorTest {
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should never hand out an id Hibernate hands out, even when a block is fetched between its calls")
+    void shouldNotOverlapHibernateBlocks() {
+        Optimizer optimizer = ((SequenceStyleGenerator) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel().getEntityDescriptor(User.class).getIdentifierGenerator()).getOptimizer();
+        PooledSequenceIdAllocator allocator = new PooledSequenceIdAllocator(jdbcTemplate, "users_seq", 50);
+        List<Long> allocated = new ArrayList<>();
+
+        // A block drawn between Hibernate's fetches, from a fresh sequence, where the pooled optimizer fetches twice
+        AccessCallback sequence = new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                long value = jdbcTemplate.queryForObject("SELECT nextval('users_seq')", Long.class);
+                if (allocated.isEmpty()) {
+                    for (int i = 0; i < 50; i++) {
+                        allocated.add(allocator.nextId());
+                    }
+                }
+                return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class).initialize(value);
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return null;
+            }
+        };
+        List<Long> generated = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            generated.add(((Number) optimizer.generate(sequence)).longValue());
+        }
+
+        assertThat(generated).doesNotHaveDuplicates().doesNotContainAnyElementsOf(allocated);
+        assertThat(allocated).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,192 @@
+package com.workflow.repository;
+
+import com.workflow.enums.WorkflowStatus;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on a real PostgreSQL, starts the application on them with
+ * {@code ddl-auto=validate}, and checks the hot queries' plans use the indexes the migrations create.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.workflow.repository.RepositoryIndexCoverageTest$SqlCapture")
+@DirtiesContext
+@TestExecutionListeners(listeners = PostgresMigrationIntegrationTest.StopPostgres.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@DisplayName("PostgreSQL migration tests")
+class PostgresMigrationIntegrationTest {
+
+    private static final Pageable NEWEST_FIRST =
+            PageRequest.of(0, 20, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired private Flyway flyway;
+    @Autowired private WorkflowRepository workflowRepository;
+    @Autowired private ApprovalStepRepository approvalStepRepository;
+    @Autowired private ApprovalHistoryRepository approvalHistoryRepository;
+    @Autowired private ApproverInboxRepository approverInboxRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @Test
+    @DisplayName("Should apply every migration, and validate the entities against the result")
+    void shouldApplyEveryMigration() throws IOException {
+        int scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql").length;
+
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).hasSize(scripts).allMatch(migration -> migration.getState() == MigrationState.SUCCESS);
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should create and detach monthly history partitions")
+    void shouldMaintainHistoryPartitions() {
+        LocalDate nextYear = LocalDate.now().plusYears(1).withDayOfMonth(1);
+        String partition = jdbcTemplate.queryForObject("SELECT ensure_approval_history_partition(?)", String.class, nextYear);
+
+        assertThat(partition).isEqualTo("approval_history_%d_%02d", nextYear.getYear(), nextYear.getMonthValue());
+        assertThat(jdbcTemplate.queryForList("SELECT detach_approval_history_partitions(?)", String.class,
+                nextYear.plusYears(1).atStartOfDay())).contains(partition);
+    }
+
+    @Test
+    @DisplayName("Should plan the workflow list and count queries on their indexes")
+    void workflowQueriesUseIndexes() {
+        assertPlanUses(() -> workflowRepository.findIds(NEWEST_FIRST), "idx_workflows_created");
+        assertPlanUses(() -> workflowRepository.findIdsAfter(NOW, 1L, Limit.of(20)), "idx_workflows_created");
+        assertPlanUses(() -> workflowRepository.findIdsByCreatedById(1L, NEWEST_FIRST), "idx_workflows_creator_created");
+        assertPlanUses(() -> workflowRepository.findIdsByCreatedByIdAfter(1L, NOW, 1L, Limit.of(20)),
+                "idx_workflows_creator_created");
+        assertPlanUses(() -> workflowRepository.findIdsByStatus(WorkflowStatus.APPROVED, NEWEST_FIRST),
+                "idx_workflows_status_created");
+        assertPlanUses(() -> workflowRepository.findIdsByStatusAfter(WorkflowStatus.APPROVED, NOW, 1L, Limit.of(20)),
+                "idx_workflows_status_created");
+        assertPlanUses(() -> workflowRepository.countByCreatedById(1L), "idx_workflows_creator_created");
+        assertPlanUses(() -> workflowRepository.countByStatus(WorkflowStatus.APPROVED), "idx_workflows_status_created");
+    }
+
+    @Test
+    @DisplayName("Should plan the approval step queries on their indexes")
+    void approvalStepQueriesUseIndexes() {
+        assertPlanUses(() -> workflowRepository.findDetailedById(1L), "uk_approval_steps_workflow_level");
+        assertPlanUses(() -> workflowRepository.findByApproverId(1L, NEWEST_FIRST), "idx_approval_steps_approver");
+        assertPlanUses(() -> approvalStepRepository.findByWorkflowId(1L), "uk_approval_steps_workflow_level");
+        assertPlanUses(() -> approvalStepRepository.findByWorkflowIdAndLevel(1L, 1), "uk_approval_steps_workflow_level");
+        assertPlanUses(() -> approvalStepRepository.findByApproverId(1L), "idx_approval_steps_approver");
+    }
+
+    @Test
+    @DisplayName("Should plan the history and inbox queries on their indexes")
+    void historyAndInboxQueriesUseIndexes() {
+        // Partitions get their own copy of each index, named after the partition and the columns
+        assertPlanUses(() -> approvalHistoryRepository.findByWorkflowIdSince(1L, NOW), "workflow_id_created_at_idx");
+        assertPlanUses(() -> approvalHistoryRepository.findByActorIdSince(1L, NOW), "actor_id_created_at_idx");
+        assertPlanUses(() -> approverInboxRepository.findFirstPage(1L, Limit.of(20)), "idx_approver_inbox_approver_pending");
+        assertPlanUses(() -> approverInboxRepository.findPageAfter(1L, NOW, 1L, Limit.of(20)),
+                "idx_approver_inbox_approver_pending");
+        assertPlanUses(() -> approverInboxRepository.countByApproverId(1L), "idx_approver_inbox_approver_pending");
+    }
+
+    /** Stops PostgreSQL once {@code @DirtiesContext} has closed the context, whose shutdown still writes. */
+    static class StopPostgres extends AbstractTestExecutionListener {
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterTestClass(TestContext testContext) throws IOException {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    /**
+     * Plans the query's SQL as a generic prepared statement, as a pooled statement ends up running, with
+     * sequential scans priced out so the empty tables do not hide a missing index.
+     */
+    private void assertPlanUses(Runnable query, String index) {
+        RepositoryIndexCoverageTest.SqlCapture.STATEMENTS.clear();
+        query.run();
+        String sql = RepositoryIndexCoverageTest.SqlCapture.STATEMENTS.stream()
+                .filter(statement -> statement.stripLeading().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("query issued no SELECT"));
+
+        String plan = explain(sql);
+        assertThat(plan).as("plan for %s", sql).doesNotContain("Seq Scan").contains(index);
+    }
+
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        StringJoiner nulls = new StringJoiner(", ", "(", ")").setEmptyValue("");
+        int parameter = 0;
+        for (String part : sql.split("\\?", -1)) {
+            if (parameter > 0) {
+                numbered.append('$').append(parameter);
+                nulls.add("NULL");
+            }
+            numbered.append(part);
+            parameter++;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE planned AS " + numbered);
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet rs = statement.executeQuery("EXPLAIN EXECUTE planned" + nulls)) {
+                    while (rs.next()) {
+                        plan.add(rs.getString(1));
+                    }
+                } finally {
+                    statement.execute("DEALLOCATE planned");
+                    statement.execute("RESET ALL");
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
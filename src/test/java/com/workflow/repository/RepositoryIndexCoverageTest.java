@@ -0,0 +1,161 @@
+package com.workflow.repository;
+
+import com.workflow.enums.WorkflowStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Checks each repository query's H2 plan uses an index the Flyway migrations also declare; see
+ * {@link PostgresMigrationIntegrationTest} for the plans on PostgreSQL.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.workflow.repository.RepositoryIndexCoverageTest$SqlCapture")
+@ActiveProfiles("test")
+@DisplayName("Repository index coverage tests")
+class RepositoryIndexCoverageTest {
+
+    private static final Pageable NEWEST_FIRST =
+            PageRequest.of(0, 20, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private static String migratedIndexes;
+
+    @Autowired private WorkflowRepository workflowRepository;
+    @Autowired private ApprovalStepRepository approvalStepRepository;
+    @Autowired private ApprovalHistoryRepository approvalHistoryRepository;
+    @Autowired private ApproverInboxRepository approverInboxRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void loadMigrations() throws IOException {
+        StringBuilder sql = new StringBuilder();
+        for (Resource migration : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql")) {
+            sql.append(migration.getContentAsString(StandardCharsets.UTF_8)).append('\n');
+        }
+        migratedIndexes = sql.toString().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    @Test
+    @DisplayName("Should back every workflow list and count query with an index")
+    void workflowQueriesUseIndexes() {
+        assertIndexed(() -> workflowRepository.findIds(NEWEST_FIRST), "workflows", "created_at", "id");
+        assertIndexed(() -> workflowRepository.findIdsAfter(NOW, 1L, Limit.of(20)), "workflows", "created_at", "id");
+        assertIndexed(() -> workflowRepository.findIdsByCreatedById(1L, NEWEST_FIRST),
+                "workflows", "created_by_id", "created_at", "id");
+        assertIndexed(() -> workflowRepository.findIdsByCreatedByIdAfter(1L, NOW, 1L, Limit.of(20)),
+                "workflows", "created_by_id", "created_at", "id");
+        assertIndexed(() -> workflowRepository.findIdsByStatus(WorkflowStatus.APPROVED, NEWEST_FIRST),
+                "workflows", "status", "created_at", "id");
+        assertIndexed(() -> workflowRepository.findIdsByStatusAfter(WorkflowStatus.APPROVED, NOW, 1L, Limit.of(20)),
+                "workflows", "status", "created_at", "id");
+        assertIndexed(() -> workflowRepository.countByCreatedById(1L), "workflows", "created_by_id");
+        assertIndexed(() -> workflowRepository.countByStatus(WorkflowStatus.APPROVED), "workflows", "status");
+        assertIndexed(() -> workflowRepository.findByStatusIn(List.of(WorkflowStatus.PENDING, WorkflowStatus.IN_PROGRESS)),
+                "workflows", "status");
+    }
+
+    @Test
+    @DisplayName("Should reach the steps of a workflow and of an approver through indexes")
+    void workflowJoinQueriesUseIndexes() {
+        assertIndexed(() -> workflowRepository.findDetailedById(1L), "approval_steps", "workflow_id", "level");
+        assertIndexed(() -> workflowRepository.findByApproverId(1L, NEWEST_FIRST), "approval_steps", "approver_id");
+    }
+
+    @Test
+    @DisplayName("Should back every approval step query with an index")
+    void approvalStepQueriesUseIndexes() {
+        assertIndexed(() -> approvalStepRepository.findByWorkflowId(1L), "approval_steps", "workflow_id");
+        assertIndexed(() -> approvalStepRepository.findByWorkflowIdAndLevel(1L, 1), "approval_steps", "workflow_id", "level");
+        assertIndexed(() -> approvalStepRepository.findByApproverId(1L), "approval_steps", "approver_id");
+    }
+
+    @Test
+    @DisplayName("Should back every approval history query with an index")
+    void approvalHistoryQueriesUseIndexes() {
+        assertIndexed(() -> approvalHistoryRepository.findByWorkflowIdSince(1L, NOW),
+                "approval_history", "workflow_id", "created_at");
+        assertIndexed(() -> approvalHistoryRepository.findByActorIdSince(1L, NOW),
+                "approval_history", "actor_id", "created_at");
+    }
+
+    @Test
+    @DisplayName("Should read an approver's inbox with a single index range scan")
+    void inboxQueriesUseIndexes() {
+        assertIndexed(() -> approverInboxRepository.findFirstPage(1L, Limit.of(20)),
+                "approver_inbox", "approver_id", "pending_since", "workflow_id");
+        assertIndexed(() -> approverInboxRepository.findPageAfter(1L, NOW, 1L, Limit.of(20)),
+                "approver_inbox", "approver_id", "pending_since", "workflow_id");
+        assertIndexed(() -> approverInboxRepository.findWorkflowIds(1L), "approver_inbox", "approver_id", "pending_since");
+        assertIndexed(() -> approverInboxRepository.countByApproverId(1L), "approver_inbox", "approver_id");
+    }
+
+    /**
+     * @param leadingColumns the columns the query filters or sorts on, in index order; the plan must look
+     *                       up (or sort by) the first of them through an index
+     */
+    private void assertIndexed(Runnable query, String table, String... leadingColumns) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(statement -> statement.stripLeading().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("query issued no SELECT"));
+
+        String plan = explain(sql);
+        Pattern indexAccess = Pattern.compile("/\\* PUBLIC\\.\\w+: [^*]*\\b" + leadingColumns[0].toUpperCase() + "\\b");
+        assertThat(plan).as("plan for %s", sql).doesNotContainIgnoringCase("tableScan");
+        assertThat(indexAccess.matcher(plan).find() || plan.contains("/* index sorted */"))
+                .as("plan for %s looks up %s.%s through an index:%n%s", sql, table, leadingColumns[0], plan)
+                .isTrue();
+
+        String columns = String.join(", ", leadingColumns);
+        assertThat(migratedIndexes.replace(" desc", ""))
+                .as("migrations declare an index on %s (%s, ...)", table, columns)
+                .containsPattern(Pattern.quote("on " + table + " (" + columns) + "[,)]");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        });
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.workflow.security;
+
+import com.workflow.config.JwtProperties;
+import com.workflow.enums.Role;
+import com.workflow.repository.UserDirectory;
+import com.workflow.repository.UserDirectory.CachedUser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b";
+
+    @Mock private UserDirectory userDirectory;
+    @Mock private TokenRevocationRegistry revocations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpirationMs(60_000);
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new JwtTokenProvider(properties, userDirectory, revocations, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should build the principal from the token's claims alone")
+    void shouldAuthenticateFromClaims() {
+        String token = provider.generateToken(7L, "alice", Role.MANAGER, 0);
+
+        JwtPrincipal principal = provider.authenticate(token).orElseThrow();
+
+        assertThat(principal.id()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("alice");
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_MANAGER");
+        verifyNoInteractions(userDirectory);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated token from the verified-token cache")
+    void shouldCacheVerifiedTokens() {
+        String token = provider.generateToken(7L, "alice", Role.MANAGER, 0);
+
+        JwtPrincipal first = provider.authenticate(token).orElseThrow();
+        JwtPrincipal second = provider.authenticate(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered and expired tokens")
+    void shouldRejectInvalidTokens() {
+        String token = provider.generateToken(7L, "alice", Role.MANAGER, 0);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = Jwts.builder()
+                .setSubject("alice")
+                .claim("uid", 7L)
+                .claim("role", "MANAGER")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(provider.authenticate(tampered)).isEmpty();
+        assertThat(provider.authenticate(expired)).isEmpty();
+        assertThat(provider.authenticate("not-a-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a cached token once its epoch is revoked")
+    void shouldRejectRevokedTokens() {
+        String token = provider.generateToken(7L, "alice", Role.MANAGER, 2);
+        assertThat(provider.authenticate(token)).isPresent();
+
+        when(revocations.isRevoked(7L, 2)).thenReturn(true);
+
+        assertThat(provider.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve tokens issued without id and role claims through the user directory")
+    void shouldAcceptTokensWithoutClaims() {
+        String legacy = Jwts.builder()
+                .setSubject("bob")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+        when(userDirectory.findByUsername("bob")).thenReturn(Optional.of(
+                new CachedUser(9L, "bob", "bob@test.com", "hash", "Bob", Role.ADMIN, true, 0, null, null)));
+
+        JwtPrincipal principal = provider.authenticate(legacy).orElseThrow();
+        provider.authenticate(legacy);
+
+        assertThat(principal.id()).isEqualTo(9L);
+        assertThat(principal.role()).isEqualTo(Role.ADMIN);
+        verify(userDirectory, times(1)).findByUsername(anyString());
+    }
+}
@@ -0,0 +1,120 @@
+package com.workflow.service;
+
+import com.workflow.config.PasswordHashingProperties;
+import com.workflow.dto.request.LoginRequest;
+import com.workflow.enums.Role;
+import com.workflow.exception.WorkloadSaturatedException;
+import com.workflow.repository.UserDirectory;
+import com.workflow.repository.UserDirectory.CachedUser;
+import com.workflow.security.JwtTokenProvider;
+import com.workflow.security.PasswordHasher;
+import com.workflow.service.impl.AuthServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService Tests")
+class AuthServiceTest {
+
+    private static final PasswordEncoder COST_4 = new BCryptPasswordEncoder(4);
+
+    @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private UserDirectory userDirectory;
+    @Mock private UserService userService;
+
+    @Test
+    @DisplayName("Should verify the password off the caller's thread and issue a token")
+    void shouldLoginSuccessfully() {
+        givenUser("alice", COST_4.encode("secret123"), true);
+        when(jwtTokenProvider.generateToken(1L, "alice", Role.MANAGER, 0)).thenReturn("jwt_token");
+
+        assertThat(authService(COST_4).login(new LoginRequest("alice", "secret123")).join().token())
+                .isEqualTo("jwt_token");
+        verify(userService, never()).upgradePasswordHash(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong password, an unknown user and a disabled account")
+    void shouldRejectInvalidLogins() {
+        givenUser("alice", COST_4.encode("secret123"), true);
+        givenUser("bob", COST_4.encode("secret123"), false);
+        AuthService authService = authService(COST_4);
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest("alice", "wrong")).join())
+                .isInstanceOf(CompletionException.class).hasCauseInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> authService.login(new LoginRequest("nobody", "secret123")).join())
+                .isInstanceOf(CompletionException.class).hasCauseInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> authService.login(new LoginRequest("bob", "secret123")).join())
+                .isInstanceOf(CompletionException.class).hasCauseInstanceOf(DisabledException.class);
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("Should rehash a password stored below the configured cost on successful login")
+    void shouldRehashWeakPasswordOnLogin() {
+        String weakHash = COST_4.encode("secret123");
+        givenUser("alice", weakHash, true);
+        BCryptPasswordEncoder cost5 = new BCryptPasswordEncoder(5);
+
+        authService(cost5).login(new LoginRequest("alice", "secret123")).join();
+
+        verify(userService).upgradePasswordHash(eq(1L), eq("alice"), eq(weakHash),
+                argThat(hash -> hash.startsWith("$2a$05$") && cost5.matches("secret123", hash)));
+    }
+
+    @Test
+    @DisplayName("Should turn logins away with 503 once the hashing queue is full")
+    void shouldRejectWhenHashingQueueIsFull() {
+        givenUser("alice", "stored", true);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = mock(PasswordEncoder.class);
+        lenient().when(blocking.matches(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        AuthService authService = authService(new PasswordHasher(blocking, properties, new SimpleMeterRegistry()));
+
+        try {
+            authService.login(new LoginRequest("alice", "secret123"));
+            authService.login(new LoginRequest("alice", "secret123"));
+            assertThatThrownBy(() -> authService.login(new LoginRequest("alice", "secret123")))
+                    .isInstanceOf(WorkloadSaturatedException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private AuthService authService(PasswordEncoder encoder) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(2);
+        return authService(new PasswordHasher(encoder, properties, new SimpleMeterRegistry()));
+    }
+
+    private AuthService authService(PasswordHasher passwordHasher) {
+        return new AuthServiceImpl(passwordHasher, jwtTokenProvider, userDirectory, userService);
+    }
+
+    private void givenUser(String username, String hash, boolean active) {
+        lenient().when(userDirectory.findByUsername(username)).thenReturn(Optional.of(new CachedUser(
+                1L, username, username + "@test.com", hash, username, Role.MANAGER, active, 0, null, null)));
+    }
+}
@@ -1,13 +1,11 @@
 package com.workflow.service;
 
 import com.workflow.dto.request.RegisterRequest;
-import com.workflow.dto.response.AuthResponse;
 import com.workflow.entity.User;
 import com.workflow.enums.Role;
 import com.workflow.exception.DuplicateResourceException;
-import com.workflow.mapper.UserMapper;
+import com.workflow.repository.UserReadRepository;
 import com.workflow.repository.UserRepository;
-import com.workflow.security.JwtTokenProvider;
 import com.workflow.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,9 +25,7 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     @Mock private UserRepository userRepository;
-    @Mock private UserMapper userMapper;
-    @Mock private PasswordEncoder passwordEncoder;
-    @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private UserReadRepository userReadRepository;
 
     @InjectMocks private UserServiceImpl userService;
 
@@ -41,12 +37,8 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("Should register user successfully")
-    void shouldRegisterUserSuccessfully() {
-        when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("encoded_password");
-
+    @DisplayName("Should insert the user without pre-checking for duplicates")
+    void shouldCreateUserSuccessfully() {
         User savedUser = User.builder()
                 .id(1L)
                 .username("testuser")
@@ -55,36 +47,36 @@ class UserServiceTest {
                 .fullName("Test User")
                 .role(Role.EMPLOYEE)
                 .build();
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        when(jwtTokenProvider.generateTokenFromUsername("testuser")).thenReturn("jwt_token");
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
-        AuthResponse response = userService.register(registerRequest);
+        User created = userService.createUser(registerRequest, "encoded_password");
 
-        assertThat(response).isNotNull();
-        assertThat(response.token()).isEqualTo("jwt_token");
-        assertThat(response.username()).isEqualTo("testuser");
-        verify(userRepository, times(1)).save(any(User.class));
+        assertThat(created.getId()).isEqualTo(1L);
+        verify(userRepository).saveAndFlush(argThat(user ->
+                user.getPassword().equals("encoded_password") && user.getRole() == Role.EMPLOYEE));
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRepository, never()).existsByEmail(any());
     }
 
     @Test
-    @DisplayName("Should throw DuplicateResourceException when username already exists")
+    @DisplayName("Should throw DuplicateResourceException when the username constraint is violated")
     void shouldThrowExceptionWhenUsernameExists() {
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
         when(userRepository.existsByUsername("testuser")).thenReturn(true);
 
-        assertThatThrownBy(() -> userService.register(registerRequest))
+        assertThatThrownBy(() -> userService.createUser(registerRequest, "encoded_password"))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("Username already taken");
-
-        verify(userRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("Should throw DuplicateResourceException when email already exists")
+    @DisplayName("Should throw DuplicateResourceException when the email constraint is violated")
     void shouldThrowExceptionWhenEmailExists() {
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
 
-        assertThatThrownBy(() -> userService.register(registerRequest))
+        assertThatThrownBy(() -> userService.createUser(registerRequest, "encoded_password"))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("Email already registered");
     }
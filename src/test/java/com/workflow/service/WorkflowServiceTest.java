@@ -2,6 +2,8 @@ package com.workflow.service;
 
 import com.workflow.dto.request.ApprovalActionRequest;
 import com.workflow.dto.request.CreateWorkflowRequest;
+import com.workflow.dto.response.ApprovalStepResponse;
+import com.workflow.dto.response.UserResponse;
 import com.workflow.dto.response.WorkflowResponse;
 import com.workflow.entity.ApprovalStep;
 import com.workflow.entity.User;
@@ -9,23 +11,33 @@ import com.workflow.entity.Workflow;
 import com.workflow.enums.ApprovalAction;
 import com.workflow.enums.Role;
 import com.workflow.enums.WorkflowStatus;
+import com.workflow.event.WorkflowEventHub;
 import com.workflow.exception.UnauthorizedException;
 import com.workflow.exception.WorkflowException;
 import com.workflow.mapper.WorkflowMapper;
-import com.workflow.repository.ApprovalHistoryRepository;
-import com.workflow.repository.ApprovalStepRepository;
+import com.workflow.repository.ApproverInboxRepository;
+import com.workflow.repository.UserChangeStampRepository;
+import com.workflow.repository.WorkflowReadRepository;
+import com.workflow.repository.WorkflowReadRepository.WorkflowSnapshot;
 import com.workflow.repository.WorkflowRepository;
+import com.workflow.repository.WorkflowTransitionRepository;
+import com.workflow.repository.WorkflowTransitionRepository.InboxChange;
+import com.workflow.repository.WorkflowTransitionRepository.Transition;
 import com.workflow.service.impl.WorkflowServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,74 +48,105 @@ import static org.mockito.Mockito.*;
 class WorkflowServiceTest {
 
     @Mock private WorkflowRepository workflowRepository;
-    @Mock private ApprovalStepRepository approvalStepRepository;
-    @Mock private ApprovalHistoryRepository approvalHistoryRepository;
+    @Mock private WorkflowReadRepository workflowReadRepository;
+    @Mock private WorkflowTransitionRepository workflowTransitionRepository;
+    @Mock private ApproverInboxRepository approverInboxRepository;
+    @Mock private UserChangeStampRepository userChangeStampRepository;
     @Mock private UserService userService;
     @Mock private WorkflowMapper workflowMapper;
+    @Mock private WorkflowEventHub workflowEvents;
 
     @InjectMocks private WorkflowServiceImpl workflowService;
 
     private User creator;
     private User approver;
-    private Workflow workflow;
+    private UserResponse creatorView;
+    private UserResponse approverView;
 
     @BeforeEach
     void setUp() {
         creator = User.builder().id(1L).username("creator").role(Role.EMPLOYEE).build();
         approver = User.builder().id(2L).username("approver").role(Role.MANAGER).build();
-
-        workflow = Workflow.builder()
-                .id(1L)
-                .title("Test Workflow")
-                .status(WorkflowStatus.DRAFT)
-                .createdBy(creator)
-                .currentLevel(0)
-                .totalLevels(1)
-                .build();
+        creatorView = new UserResponse(1L, "creator", "creator@test.com", "Creator", "EMPLOYEE", true, null);
+        approverView = new UserResponse(2L, "approver", "approver@test.com", "Approver", "MANAGER", true, null);
     }
 
     @Test
-    @DisplayName("Should submit workflow successfully")
+    @DisplayName("Should submit workflow with one guarded transition and no re-read")
     void shouldSubmitWorkflowSuccessfully() {
-        when(workflowRepository.findById(1L)).thenReturn(Optional.of(workflow));
-        when(userService.findEntityByUsername("creator")).thenReturn(creator);
-        when(workflowRepository.save(any())).thenReturn(workflow);
-        when(workflowRepository.findById(1L)).thenReturn(Optional.of(workflow));
-        when(workflowMapper.toResponse(any())).thenReturn(mock(WorkflowResponse.class));
+        givenSnapshot(WorkflowStatus.DRAFT, 0, 7L);
+        when(workflowTransitionRepository.apply(any())).thenReturn(true);
+
+        WorkflowResponse response = workflowService.submitWorkflow(1L, "creator");
+
+        ArgumentCaptor<Transition> captor = ArgumentCaptor.forClass(Transition.class);
+        verify(workflowTransitionRepository).apply(captor.capture());
+        Transition transition = captor.getValue();
+        assertThat(transition.version()).isEqualTo(7L);
+        assertThat(transition.fromStatus()).isEqualTo(WorkflowStatus.DRAFT);
+        assertThat(transition.toStatus()).isEqualTo(WorkflowStatus.IN_PROGRESS);
+        assertThat(transition.inbox()).isEqualTo(InboxChange.ADD);
+        assertThat(transition.inboxApproverId()).isEqualTo(2L);
+        assertThat(response.status()).isEqualTo("IN_PROGRESS");
+        assertThat(response.currentLevel()).isEqualTo(1);
+        verify(workflowReadRepository, times(1)).findSnapshot(1L);
+        verifyNoInteractions(workflowRepository, userService);
+    }
 
-        workflowService.submitWorkflow(1L, "creator");
+    @Test
+    @DisplayName("Should approve the final level and return the applied state")
+    void shouldApproveFinalLevel() {
+        givenSnapshot(WorkflowStatus.IN_PROGRESS, 1, 3L);
+        when(workflowTransitionRepository.apply(any())).thenReturn(true);
+
+        WorkflowResponse response = workflowService.processApproval(
+                1L, new ApprovalActionRequest(ApprovalAction.APPROVE, "ok"), "approver");
+
+        ArgumentCaptor<Transition> captor = ArgumentCaptor.forClass(Transition.class);
+        verify(workflowTransitionRepository).apply(captor.capture());
+        assertThat(captor.getValue().inbox()).isEqualTo(InboxChange.REMOVE);
+        assertThat(captor.getValue().actorId()).isEqualTo(2L);
+        assertThat(response.status()).isEqualTo("APPROVED");
+        assertThat(response.approvalSteps()).singleElement().satisfies(step -> {
+            assertThat(step.status()).isEqualTo("APPROVED");
+            assertThat(step.comments()).isEqualTo("ok");
+        });
+    }
 
-        verify(workflowRepository, atLeastOnce()).save(any(Workflow.class));
+    @Test
+    @DisplayName("Should report a missed guard as an optimistic lock failure")
+    void shouldFailWhenGuardMisses() {
+        givenSnapshot(WorkflowStatus.IN_PROGRESS, 1, 3L);
+        when(workflowTransitionRepository.apply(any())).thenReturn(false);
+
+        assertThatThrownBy(() -> workflowService.processApproval(
+                1L, new ApprovalActionRequest(ApprovalAction.REJECT, "no"), "approver"))
+                .isInstanceOf(OptimisticLockingFailureException.class);
     }
 
     @Test
     @DisplayName("Should throw UnauthorizedException when non-creator tries to submit")
     void shouldThrowWhenNonCreatorSubmits() {
-        when(workflowRepository.findById(1L)).thenReturn(Optional.of(workflow));
-        when(userService.findEntityByUsername("other")).thenReturn(
-                User.builder().id(99L).username("other").build()
-        );
+        givenSnapshot(WorkflowStatus.DRAFT, 0, 0L);
 
         assertThatThrownBy(() -> workflowService.submitWorkflow(1L, "other"))
                 .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(workflowTransitionRepository);
     }
 
     @Test
     @DisplayName("Should throw WorkflowException when submitting non-DRAFT workflow")
     void shouldThrowWhenSubmittingNonDraftWorkflow() {
-        workflow.setStatus(WorkflowStatus.IN_PROGRESS);
-        when(workflowRepository.findById(1L)).thenReturn(Optional.of(workflow));
-        when(userService.findEntityByUsername("creator")).thenReturn(creator);
+        givenSnapshot(WorkflowStatus.IN_PROGRESS, 1, 1L);
 
         assertThatThrownBy(() -> workflowService.submitWorkflow(1L, "creator"))
                 .isInstanceOf(WorkflowException.class);
+        verifyNoInteractions(workflowTransitionRepository);
     }
 
     @Test
     @DisplayName("Should validate sequential approval step levels")
     void shouldValidateSequentialLevels() {
-        when(userService.findEntityByUsername("creator")).thenReturn(creator);
-
         CreateWorkflowRequest request = new CreateWorkflowRequest(
                 "Test", "desc", null,
                 List.of(
@@ -112,13 +155,50 @@ class WorkflowServiceTest {
                 )
         );
 
-        when(userService.findEntityById(2L)).thenReturn(approver);
-        when(workflowRepository.save(any())).thenReturn(workflow);
-        when(workflowRepository.findById(any())).thenReturn(Optional.of(workflow));
-        when(workflowMapper.toResponse(any())).thenReturn(mock(WorkflowResponse.class));
-
         assertThatThrownBy(() -> workflowService.createWorkflow(request, "creator"))
                 .isInstanceOf(WorkflowException.class)
                 .hasMessageContaining("sequential levels");
+
+        verifyNoInteractions(userService, workflowRepository);
+    }
+
+    @Test
+    @DisplayName("Should create workflow with one approver lookup and no re-read")
+    void shouldCreateWorkflowWithBatchedApproverLookup() {
+        User secondApprover = User.builder().id(3L).username("approver2").role(Role.MANAGER).build();
+        when(userService.findEntityByUsername("creator")).thenReturn(creator);
+        when(userService.findEntitiesByIds(Set.of(2L, 3L))).thenReturn(Map.of(2L, approver, 3L, secondApprover));
+        when(workflowRepository.save(any(Workflow.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(workflowMapper.toResponse(any())).thenReturn(mock(WorkflowResponse.class));
+
+        CreateWorkflowRequest request = new CreateWorkflowRequest(
+                "Test", "desc", null,
+                List.of(
+                        new CreateWorkflowRequest.ApprovalStepRequest(3L, 2, null),
+                        new CreateWorkflowRequest.ApprovalStepRequest(2L, 1, "Step 1"),
+                        new CreateWorkflowRequest.ApprovalStepRequest(2L, 3, "Step 3")
+                )
+        );
+
+        workflowService.createWorkflow(request, "creator");
+
+        ArgumentCaptor<Workflow> captor = ArgumentCaptor.forClass(Workflow.class);
+        verify(workflowRepository).save(captor.capture());
+        assertThat(captor.getValue().getApprovalSteps())
+                .extracting(step -> step.getApprover().getId(), ApprovalStep::getLevel, ApprovalStep::getStepName)
+                .containsExactly(
+                        tuple(2L, 1, "Step 1"),
+                        tuple(3L, 2, "Level 2"),
+                        tuple(2L, 3, "Step 3"));
+        verify(userService, times(1)).findEntitiesByIds(any());
+        verify(workflowRepository, never()).findById(any());
+        verifyNoInteractions(workflowReadRepository);
+    }
+
+    private void givenSnapshot(WorkflowStatus status, int level, long version) {
+        ApprovalStepResponse step = new ApprovalStepResponse(10L, approverView, 1, "Level 1", "PENDING", null, null, null);
+        WorkflowResponse workflow = new WorkflowResponse(1L, "Test Workflow", null, status.name(), creatorView,
+                level, 1, null, List.of(step), null, null);
+        when(workflowReadRepository.findSnapshot(1L)).thenReturn(Optional.of(new WorkflowSnapshot(workflow, version)));
     }
 }